@@ -0,0 +1,142 @@
+package com.hwansol.moviego.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.model.PrincipalDetails;
+import com.hwansol.moviego.member.model.Role;
+import com.hwansol.moviego.member.service.MemberDetailsService;
+import jakarta.servlet.http.Cookie;
+import java.util.Base64;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+// 인증 처리 경로(토큰 발급/검증/재발급) 단일 스레드 성능 측정
+@State(Scope.Benchmark)
+@Threads(1)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+    private static final List<String> ROLES = List.of("USER");
+
+    private TokenProvider tokenProvider; // 검증 캐시 사용
+    private TokenProvider uncachedTokenProvider; // 매번 서명 검증
+    private String accessToken;
+    private ParsedToken parsedToken;
+    private MockHttpServletRequest authorizedRequest;
+    private Cookie refreshCookie;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, new String[0], "HS512", "", "", new String[0]);
+
+        tokenProvider = createTokenProvider(keyRing, new ClaimsCache(10_000));
+        uncachedTokenProvider = createTokenProvider(keyRing, new ClaimsCache(0));
+
+        accessToken = uncachedTokenProvider.generateAccessToken("benchmark", ROLES);
+        parsedToken = uncachedTokenProvider.parseToken(accessToken);
+
+        authorizedRequest = new MockHttpServletRequest();
+        authorizedRequest.addHeader("Authorization", "Bearer " + accessToken);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        uncachedTokenProvider.generateRefreshToken("benchmark", ROLES, response);
+        refreshCookie = response.getCookie("refreshToken");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken("benchmark", ROLES);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedTokenProvider.validateToken(uncachedTokenProvider.parseToken(accessToken));
+    }
+
+    @Benchmark
+    public boolean validateCachedToken() {
+        return tokenProvider.validateToken(tokenProvider.parseToken(accessToken));
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(parsedToken);
+    }
+
+    @Benchmark
+    public String resolveTokenFromRequest() {
+        return tokenProvider.resolveTokenFromRequest(authorizedRequest);
+    }
+
+    @Benchmark
+    public String reGenerateAccessToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(refreshCookie);
+
+        return uncachedTokenProvider.reGenerateAccessToken(request, new MockHttpServletResponse());
+    }
+
+    // redis, DB 없이 동작하도록 의존성을 고정값으로 대체
+    private TokenProvider createTokenProvider(JwtKeyRing keyRing, ClaimsCache claimsCache) {
+        return new TokenProvider(new StubMemberDetailsService(), claimsCache,
+            new StubTokenVersionService(), keyRing, new ObjectMapper(), new StubRevokedTokenStore());
+    }
+
+    static class StubMemberDetailsService extends MemberDetailsService {
+
+        StubMemberDetailsService() {
+            super(null);
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String memberId) {
+            return PrincipalDetails.of(memberId, Role.ROLE_USER);
+        }
+    }
+
+    static class StubTokenVersionService extends TokenVersionService {
+
+        StubTokenVersionService() {
+            super(null);
+        }
+
+        @Override
+        public long getVersion(String memberId) {
+            return 0L;
+        }
+
+        @Override
+        public long getCurrentVersion(String memberId) {
+            return 0L;
+        }
+
+        @Override
+        public boolean isRevoked(String memberId, long tokenVersion) {
+            return false;
+        }
+    }
+
+    static class StubRevokedTokenStore extends RevokedTokenStore {
+
+        StubRevokedTokenStore() {
+            super(null, null);
+        }
+
+        @Override
+        public boolean isRevoked(String jti) {
+            return false;
+        }
+
+        @Override
+        public boolean isRevokedInStore(String jti) {
+            return false;
+        }
+    }
+}
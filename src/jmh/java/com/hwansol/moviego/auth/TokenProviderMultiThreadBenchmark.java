@@ -0,0 +1,12 @@
+package com.hwansol.moviego.auth;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 인증 처리 경로 멀티 스레드 성능 측정 (사용 가능한 모든 코어 사용, 캐시 및 스레드별 Mac 경합 확인용)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class TokenProviderMultiThreadBenchmark extends TokenProviderBenchmark {
+
+}
@@ -0,0 +1,100 @@
+package com.hwansol.moviego.auth;
+
+import com.hwansol.moviego.config.LocalCacheEviction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 서명 검증이 끝난 토큰 정보를 보관하는 캐시 (토큰 해시 -> ParsedToken)
+@Component
+@Slf4j
+public class ClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // 요청마다 조회하므로 전체 잠금 없이 동시에 읽고 쓸 수 있는 map 사용
+    private final Map<String, ParsedToken> cache = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final int maxSize;
+
+    public ClaimsCache(@Value("${spring.jwt.claims-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시에서 검증된 토큰 정보를 가져온다.
+     *
+     * @param token 토큰
+     * @return 캐시에 있고 만료되지 않은 경우 ParsedToken, 아닌 경우 null
+     */
+    public ParsedToken get(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+
+        ParsedToken cached = cache.get(key);
+
+        if (cached != null && !cached.isExpired(now)) {
+            hitCount.increment();
+            return cached;
+        }
+
+        if (cached != null) { // 만료된 항목은 바로 제거
+            cache.remove(key, cached);
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * 서명 검증이 끝난 토큰 정보를 캐시에 저장한다.
+     *
+     * @param token       토큰
+     * @param parsedToken 검증된 토큰 정보
+     */
+    public void put(String token, ParsedToken parsedToken) {
+        if (parsedToken.expiredAt() == Long.MAX_VALUE) { // 만료 시간이 없는 토큰은 캐시하지 않음
+            return;
+        }
+
+        // 가득 찬 경우 일부 항목만 확인해 만료된(없으면 가장 먼저 만료되는) 항목 제거
+        if (LocalCacheEviction.makeRoom(cache, maxSize, ParsedToken::expiredAt,
+            System.currentTimeMillis())) {
+            cache.put(hash(token), parsedToken);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // 토큰 원문 대신 SHA-256 해시를 키로 사용
+    private String hash(String token) {
+        MessageDigest digest = DIGEST.get();
+        byte[] hashed = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+
+        return Base64.getEncoder().encodeToString(hashed);
+    }
+}
@@ -0,0 +1,434 @@
+package com.hwansol.moviego.auth;
+
+import com.hwansol.moviego.member.model.Role;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import javax.crypto.Mac;
+
+/**
+ * 서버가 직접 발급한 HMAC 토큰 전용 검증/디코딩 경로.
+ * <p>
+ * 미리 인코딩해 둔 헤더와 일치하는 토큰만 처리하며, 스레드별 Mac과 버퍼를 재사용하고 claim은 직접 읽는다.
+ * 형식이 조금이라도 예상과 다르면 null을 반환하고, 호출하는 쪽은 jjwt로 다시 검증한다.
+ */
+final class HmacTokenCodec {
+
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int MAX_NUMBER_DIGITS = 15;
+    private static final int[] BASE64_URL_VALUES = new int[128];
+
+    private static final byte[] KEY_JTI = bytes("jti");
+    private static final byte[] KEY_SUB = bytes("sub");
+    private static final byte[] KEY_IAT = bytes("iat");
+    private static final byte[] KEY_EXP = bytes("exp");
+    private static final byte[] KEY_ROLES = bytes(ParsedToken.KEY_ROLES);
+    private static final byte[] KEY_TOKEN_VERSION = bytes(ParsedToken.KEY_TOKEN_VERSION);
+    private static final byte[] KEY_CODEC_VERSION = bytes(ParsedToken.KEY_CODEC_VERSION);
+    private static final byte[] KEY_ROLE_MASK = bytes(ParsedToken.KEY_ROLE_MASK);
+    private static final byte[] KEY_COMPACT_TOKEN_VERSION = bytes(
+        ParsedToken.KEY_COMPACT_TOKEN_VERSION);
+
+    static {
+        Arrays.fill(BASE64_URL_VALUES, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL_VALUES[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final List<HeaderEntry> headers = new ArrayList<>(); // 인코딩된 헤더 -> 검증 키
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    HmacTokenCodec(Collection<JwtSigningKey> keys) {
+        for (JwtSigningKey key : keys) {
+            if (!key.getAlgorithm().isHmac()) {
+                continue;
+            }
+
+            headers.add(new HeaderEntry(key.getEncodedHeader(), key));
+            // typ 헤더가 있던 이전 형식으로 발급된 토큰도 처리
+            headers.add(new HeaderEntry(Base64.getUrlEncoder().withoutPadding().encodeToString(
+                bytes("{\"typ\":\"JWT\",\"alg\":\"" + key.getAlgorithm().getValue()
+                    + "\",\"kid\":\"" + key.getKid() + "\"}")), key));
+        }
+    }
+
+    /**
+     * 토큰 서명을 검증하고 claim을 읽는다. 만료 여부는 확인하지 않는다.
+     *
+     * @param token 토큰
+     * @return 검증된 토큰 정보, 이 경로에서 처리할 수 없는 형식인 경우 null
+     * @throws SignatureException 헤더가 일치하지만 서명이 올바르지 않은 경우
+     */
+    ParsedToken decode(String token) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+
+        HeaderEntry entry = matchHeader(token);
+        if (entry == null) {
+            return null;
+        }
+
+        int payloadStart = entry.header().length() + 1;
+        int signatureStart = token.indexOf('.', payloadStart) + 1;
+        if (signatureStart == 0 || token.indexOf('.', signatureStart) >= 0) {
+            return null;
+        }
+
+        Buffers buffer = buffers.get();
+        int inputLength = signatureStart - 1;
+        for (int i = 0; i < inputLength; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            buffer.input[i] = (byte) c;
+        }
+
+        Mac mac = entry.key().getThreadMac();
+        int macLength = mac.getMacLength();
+        int signatureLength = decodeBase64Url(token, signatureStart, length, buffer.signature);
+        if (signatureLength != macLength) { // 서명 길이가 다른 경우(서명 없는 토큰 등)는 jjwt 판단을 따름
+            return null;
+        }
+
+        try {
+            mac.update(buffer.input, 0, inputLength);
+            mac.doFinal(buffer.digest, 0);
+        } catch (GeneralSecurityException e) {
+            return null;
+        }
+
+        if (!constantTimeEquals(buffer.digest, buffer.signature, macLength)) {
+            throw new SignatureException("토큰 서명이 올바르지 않습니다.");
+        }
+
+        int payloadLength = decodeBase64Url(token, payloadStart, inputLength, buffer.payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+
+        ClaimReader reader = buffer.reader;
+        reader.reset(buffer.payload, payloadLength);
+
+        return reader.read() ? reader.toParsedToken() : null;
+    }
+
+    private HeaderEntry matchHeader(String token) {
+        for (HeaderEntry entry : headers) {
+            String header = entry.header();
+            if (token.length() > header.length() && token.charAt(header.length()) == '.'
+                && token.startsWith(header)) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    // 패딩 없는 정규 base64url만 디코딩 (그 외 형식은 -1을 반환해 jjwt에서 처리)
+    private static int decodeBase64Url(String source, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1 || length / 4 * 3 + 2 > out.length) {
+            return -1;
+        }
+
+        int outIndex = 0;
+        int bits = 0;
+        int bitCount = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_URL_VALUES[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[outIndex++] = (byte) (bits >> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+
+        return bits == 0 ? outIndex : -1; // 남는 비트가 0이 아닌 경우 정규 형식이 아님
+    }
+
+    private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            result |= a[i] ^ b[i];
+        }
+
+        return result == 0;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record HeaderEntry(String header, JwtSigningKey key) {
+
+    }
+
+    // 스레드별 재사용 버퍼
+    private static final class Buffers {
+
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH / 4 * 3 + 2];
+        private final byte[] signature = new byte[66];
+        private final byte[] digest = new byte[64];
+        private final ClaimReader reader = new ClaimReader();
+    }
+
+    // 토큰 payload 전용 json reader (escape, 실수, 중첩 객체 등 예상 밖의 형식은 false 반환)
+    private static final class ClaimReader {
+
+        private static final int JTI = 1;
+        private static final int SUB = 1 << 1;
+        private static final int IAT = 1 << 2;
+        private static final int EXP = 1 << 3;
+        private static final int ROLES = 1 << 4;
+        private static final int TOKEN_VERSION = 1 << 5;
+        private static final int CODEC_VERSION = 1 << 6;
+        private static final int ROLE_MASK = 1 << 7;
+        private static final int COMPACT_TOKEN_VERSION = 1 << 8;
+
+        private byte[] buf;
+        private int pos;
+        private int end;
+        private int seen; // 읽은 claim (중복 claim 확인용)
+
+        private String jti;
+        private String sub;
+        private List<String> roles;
+        private long iat;
+        private long exp;
+        private long tokenVersion;
+        private long codecVersion;
+        private long roleMask;
+        private long compactTokenVersion;
+
+        void reset(byte[] buf, int end) {
+            this.buf = buf;
+            this.pos = 0;
+            this.end = end;
+            this.seen = 0;
+            this.jti = null;
+            this.sub = null;
+            this.roles = null;
+            this.iat = 0;
+            this.exp = 0;
+            this.tokenVersion = 0;
+            this.codecVersion = 0;
+            this.roleMask = 0;
+            this.compactTokenVersion = 0;
+        }
+
+        // jjwt는 '{'로 시작하고 '}'로 끝나는 payload만 claim으로 처리하므로 앞뒤 공백은 허용하지 않음
+        boolean read() {
+            if (!consume('{')) {
+                return false;
+            }
+
+            skipWhitespace();
+            if (!consume('}')) {
+                do {
+                    skipWhitespace();
+                    if (!readClaim()) {
+                        return false;
+                    }
+                    skipWhitespace();
+                } while (consume(','));
+
+                if (!consume('}')) {
+                    return false;
+                }
+            }
+
+            return pos == end;
+        }
+
+        // ParsedToken.from(Claims)와 같은 규칙으로 변환
+        ParsedToken toParsedToken() {
+            boolean compact = codecVersion == ParsedToken.COMPACT_CODEC;
+
+            return new ParsedToken(
+                jti,
+                sub,
+                compact ? Role.fromMask((int) roleMask) : (roles == null ? List.of() : roles),
+                compact ? compactTokenVersion : tokenVersion,
+                (seen & IAT) != 0 ? iat * 1000 : 0L,
+                (seen & EXP) != 0 ? exp * 1000 : Long.MAX_VALUE);
+        }
+
+        private boolean readClaim() {
+            if (!consume('"')) {
+                return false;
+            }
+
+            int keyStart = pos;
+            while (pos < end && buf[pos] != '"') {
+                if (buf[pos] == '\\') {
+                    return false;
+                }
+                pos++;
+            }
+            if (pos == end) {
+                return false;
+            }
+
+            int keyEnd = pos++;
+            skipWhitespace();
+            if (!consume(':')) {
+                return false;
+            }
+            skipWhitespace();
+
+            int claim = claimOf(keyStart, keyEnd);
+            if (claim == 0 || (seen & claim) != 0) { // 알 수 없는 claim(nbf 등) 또는 중복 claim
+                return false;
+            }
+            seen |= claim;
+
+            return switch (claim) {
+                case JTI -> (jti = readString()) != null;
+                case SUB -> (sub = readString()) != null;
+                case ROLES -> (roles = readStringArray()) != null;
+                default -> readNumber(claim);
+            };
+        }
+
+        private int claimOf(int keyStart, int keyEnd) {
+            if (keyEquals(keyStart, keyEnd, KEY_JTI)) {
+                return JTI;
+            } else if (keyEquals(keyStart, keyEnd, KEY_SUB)) {
+                return SUB;
+            } else if (keyEquals(keyStart, keyEnd, KEY_ROLES)) {
+                return ROLES;
+            } else if (keyEquals(keyStart, keyEnd, KEY_IAT)) {
+                return IAT;
+            } else if (keyEquals(keyStart, keyEnd, KEY_EXP)) {
+                return EXP;
+            } else if (keyEquals(keyStart, keyEnd, KEY_TOKEN_VERSION)) {
+                return TOKEN_VERSION;
+            } else if (keyEquals(keyStart, keyEnd, KEY_CODEC_VERSION)) {
+                return CODEC_VERSION;
+            } else if (keyEquals(keyStart, keyEnd, KEY_ROLE_MASK)) {
+                return ROLE_MASK;
+            } else if (keyEquals(keyStart, keyEnd, KEY_COMPACT_TOKEN_VERSION)) {
+                return COMPACT_TOKEN_VERSION;
+            }
+
+            return 0;
+        }
+
+        // 정수 claim 읽기 (실수, 지수 표기, 0으로 시작하는 수, 너무 큰 수는 false)
+        private boolean readNumber(int claim) {
+            boolean negative = consume('-');
+            int start = pos;
+            long value = 0;
+
+            while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+                value = value * 10 + (buf[pos++] - '0');
+            }
+
+            int digits = pos - start;
+            if (digits == 0 || digits > MAX_NUMBER_DIGITS || (digits > 1 && buf[start] == '0')) {
+                return false;
+            }
+            if (pos < end && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E')) {
+                return false;
+            }
+
+            value = negative ? -value : value;
+            switch (claim) {
+                case IAT -> iat = value;
+                case EXP -> exp = value;
+                case TOKEN_VERSION -> tokenVersion = value;
+                case CODEC_VERSION -> codecVersion = value;
+                case ROLE_MASK -> roleMask = value;
+                default -> compactTokenVersion = value;
+            }
+
+            return true;
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+
+            int start = pos;
+            while (pos < end && buf[pos] != '"') {
+                byte b = buf[pos];
+                if (b < 0x20 || b == '\\') { // 제어 문자, escape, 비 ASCII 문자
+                    return null;
+                }
+                pos++;
+            }
+            if (pos == end) {
+                return null;
+            }
+
+            return new String(buf, start, pos++ - start, StandardCharsets.US_ASCII);
+        }
+
+        private List<String> readStringArray() {
+            if (!consume('[')) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>(1);
+            skipWhitespace();
+            if (consume(']')) {
+                return List.of();
+            }
+
+            do {
+                skipWhitespace();
+                String value = readString();
+                if (value == null) {
+                    return null;
+                }
+                values.add(value);
+                skipWhitespace();
+            } while (consume(','));
+
+            return consume(']') ? List.copyOf(values) : null;
+        }
+
+        private boolean keyEquals(int start, int keyEnd, byte[] key) {
+            return Arrays.equals(buf, start, keyEnd, key, 0, key.length);
+        }
+
+        private boolean consume(char c) {
+            if (pos < end && buf[pos] == c) {
+                pos++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < end) {
+                byte b = buf[pos];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hwansol.moviego.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+// 다른 서비스가 토큰을 직접 검증할 수 있도록 공개키(JWKS)를 제공
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.jwt.jwks-max-age-seconds:3600}")
+    private long jwksMaxAgeSeconds; // 공개키 목록 캐시 유지 시간
+
+    private String jwks; // 키 목록은 서버 실행 중 바뀌지 않으므로 미리 직렬화
+    private String eTag;
+
+    @PostConstruct
+    void init() throws JsonProcessingException {
+        jwks = objectMapper.writeValueAsString(Map.of("keys", jwtKeyRing.getPublicJwks()));
+        eTag = "\"" + DigestUtils.md5DigestAsHex(jwks.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 공개키 목록 조회 컨트롤러
+     *
+     * @param webRequest WebRequest
+     * @return 성공 시 200 코드와 JWKS, 변경되지 않은 경우 304 코드
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> getJwksController(WebRequest webRequest) {
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(jwksMaxAgeSeconds)).cachePublic())
+            .eTag(eTag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(jwks);
+    }
+}
@@ -29,10 +29,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = tokenProvider.resolveTokenFromRequest(request);
 
-            // 토큰이 올바른 토큰인 경우
-            if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-                Authentication authentication = tokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (StringUtils.hasText(token)) {
+                ParsedToken parsedToken = tokenProvider.parseToken(token); // 요청당 서명 검증은 한 번만
+
+                // 토큰이 올바른 토큰인 경우
+                if (tokenProvider.validateToken(parsedToken)) {
+                    Authentication authentication = tokenProvider.getAuthentication(parsedToken);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
             filterChain.doFilter(request, response);
         } catch (TokenException e) {
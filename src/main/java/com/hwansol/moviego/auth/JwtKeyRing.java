@@ -0,0 +1,187 @@
+package com.hwansol.moviego.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 토큰 서명 키 목록 (현재 키로 서명하고, 현재 키와 이전 키들로 검증한다)
+@Component
+@Slf4j
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    @Getter
+    private final JwtSigningKey currentKey; // 서명에 사용하는 현재 키
+
+    private final Map<String, JwtSigningKey> keys = new LinkedHashMap<>(); // kid -> 키
+
+    private final JwtSigningKey legacyKey; // kid 없이 발급된 이전 토큰의 검증 키 (HMAC 시크릿)
+
+    @Getter
+    private final JwtParser parser; // 키 목록으로 서명을 검증하는 파서 (thread-safe)
+
+    private final HmacTokenCodec hmacTokenCodec; // 직접 발급한 HMAC 토큰 전용 빠른 검증 경로
+
+    @Getter
+    private final List<Map<String, Object>> publicJwks; // 외부에 공개하는 공개키 목록 (JWKS)
+
+    public JwtKeyRing(@Value("${spring.jwt.secret}") String secret,
+        @Value("${spring.jwt.previous-secrets:}") String[] previousSecrets,
+        @Value("${spring.jwt.algorithm:HS512}") String algorithm,
+        @Value("${spring.jwt.ec-private-key:}") String ecPrivateKey,
+        @Value("${spring.jwt.ec-public-key:}") String ecPublicKey,
+        @Value("${spring.jwt.previous-ec-public-keys:}") String[] previousEcPublicKeys) {
+        JwtSigningKey hmacKey = createHmacKey(secret);
+        keys.put(hmacKey.getKid(), hmacKey);
+        this.legacyKey = hmacKey;
+
+        for (String previousSecret : previousSecrets) { // 키 교체 중에도 이전 키로 발급된 토큰 검증 가능
+            if (StringUtils.hasText(previousSecret)) {
+                JwtSigningKey previousKey = createHmacKey(previousSecret.trim());
+                keys.putIfAbsent(previousKey.getKid(), previousKey);
+            }
+        }
+
+        for (String previousEcPublicKey : previousEcPublicKeys) {
+            if (StringUtils.hasText(previousEcPublicKey)) {
+                JwtSigningKey previousKey = createEcKey(null, previousEcPublicKey.trim());
+                keys.putIfAbsent(previousKey.getKid(), previousKey);
+            }
+        }
+
+        // 비대칭키 모드인 경우 EC 개인키로 서명 (HMAC 키는 모드 전환 중인 토큰 검증용으로 유지)
+        if (SignatureAlgorithm.forName(algorithm).isEllipticCurve()) {
+            // 서버마다 다른 키로 서명하지 않도록 키가 설정되지 않은 경우 서버를 시작하지 않음
+            if (!StringUtils.hasText(ecPrivateKey) || !StringUtils.hasText(ecPublicKey)) {
+                throw new IllegalStateException("spring.jwt.algorithm이 " + algorithm + "인 경우 "
+                    + "spring.jwt.ec-private-key, spring.jwt.ec-public-key를 설정해야 합니다.");
+            }
+            this.currentKey = createEcKey(ecPrivateKey, ecPublicKey);
+            keys.put(currentKey.getKid(), currentKey);
+        } else {
+            this.currentKey = hmacKey;
+        }
+
+        this.parser = Jwts.parserBuilder()
+            .setSigningKeyResolver(this)
+            .build();
+        this.hmacTokenCodec = new HmacTokenCodec(keys.values());
+        this.publicJwks = keys.values().stream()
+            .map(JwtSigningKey::toPublicJwk)
+            .filter(Objects::nonNull)
+            .toList();
+
+        log.info("토큰 서명 키 로드 완료 현재 kid = {}, 알고리즘 = {}, 검증 가능한 키 수 = {}",
+            currentKey.getKid(), currentKey.getAlgorithm(), keys.size());
+    }
+
+    /**
+     * 토큰 서명을 검증하고 토큰 정보를 읽는다. 직접 발급한 HMAC 토큰은 빠른 경로로 처리하고, 그 외 형식은 jjwt로
+     * 검증한다.
+     *
+     * @param token 토큰
+     * @return 검증된 토큰 정보
+     * @throws ExpiredJwtException 만료된 토큰인 경우
+     * @throws JwtException        올바르지 않은 토큰인 경우
+     */
+    public ParsedToken verify(String token) {
+        ParsedToken parsedToken = hmacTokenCodec.decode(token);
+
+        if (parsedToken == null) {
+            return ParsedToken.from(parser.parseClaimsJws(token).getBody());
+        }
+
+        // jjwt와 같은 기준으로 만료 확인 (만료 시간이 현재 시간보다 이전인 경우)
+        if (parsedToken.expiredAt() < System.currentTimeMillis()) {
+            throw new ExpiredJwtException(null, null, "만료된 토큰입니다. exp = "
+                + parsedToken.expiredAt());
+        }
+
+        return parsedToken;
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키를 찾는다. kid가 없는 토큰은 키 목록 도입 전에 HMAC 시크릿으로 발급된 토큰이므로 서명
+     * 방식과 관계없이 HMAC 키로 검증한다.
+     *
+     * @param header 토큰 헤더
+     * @param claims 토큰 정보
+     * @return 검증 키
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+
+        if (kid == null) {
+            return legacyKey.getVerifyKey();
+        }
+
+        JwtSigningKey key = keys.get(kid);
+        if (key == null) {
+            throw new SignatureException("알 수 없는 서명 키입니다. kid = " + kid);
+        }
+
+        return key.getVerifyKey();
+    }
+
+    // 시크릿을 한 번만 디코딩해 키 생성 (kid는 키 해시 앞부분)
+    private JwtSigningKey createHmacKey(String secret) {
+        byte[] keyBytes = Decoders.BASE64.decode(secret);
+
+        return JwtSigningKey.hmac(createKid(keyBytes), Keys.hmacShaKeyFor(keyBytes));
+    }
+
+    // base64 인코딩된 PKCS#8 개인키, X.509 공개키로 EC 키 생성
+    private JwtSigningKey createEcKey(String privateKey, String publicKey) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            byte[] publicKeyBytes = Decoders.BASE64.decode(publicKey);
+            ECPublicKey ecPublicKey = (ECPublicKey) keyFactory.generatePublic(
+                new X509EncodedKeySpec(publicKeyBytes));
+            PrivateKey ecPrivateKey = privateKey == null ? null : keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(Decoders.BASE64.decode(privateKey)));
+
+            return JwtSigningKey.ec(createKid(publicKeyBytes), ecPrivateKey, ecPublicKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("EC 키 로드 실패", e);
+        }
+    }
+
+    private String createKid(byte[] keyBytes) {
+        try {
+            byte[] hashed = MessageDigest.getInstance("SHA-256").digest(keyBytes);
+
+            return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(hashed)
+                .substring(0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
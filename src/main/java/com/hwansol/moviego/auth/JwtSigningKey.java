@@ -0,0 +1,177 @@
+package com.hwansol.moviego.auth;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+// 토큰 서명에 사용하는 키 (kid, 알고리즘, 미리 인코딩된 헤더, 스레드별 Mac/Signature 보관)
+@Getter
+public class JwtSigningKey {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final String kid; // 키 식별자
+    private final SignatureAlgorithm algorithm; // 서명 알고리즘
+    private final Key verifyKey; // 검증 키 (HMAC은 시크릿 키, EC는 공개키)
+    private final String encodedHeader; // base64url 인코딩된 JWT 헤더 (선택 항목인 typ은 생략)
+
+    @Getter(AccessLevel.NONE)
+    private final Key signKey; // 서명 키 (검증 전용 키인 경우 null)
+
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<Mac> macs; // 스레드별로 초기화된 Mac 재사용 (HMAC)
+
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<Signature> signatures; // 스레드별 Signature 재사용 (EC)
+
+    private JwtSigningKey(String kid, SignatureAlgorithm algorithm, Key signKey, Key verifyKey) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.signKey = signKey;
+        this.verifyKey = verifyKey;
+        this.encodedHeader = ENCODER.encodeToString(
+            ("{\"alg\":\"" + algorithm.getValue() + "\",\"kid\":\"" + kid + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        this.macs = ThreadLocal.withInitial(this::createMac);
+        this.signatures = ThreadLocal.withInitial(this::createSignature);
+    }
+
+    /**
+     * HMAC 키 생성 (HS256/384/512는 키 길이로 결정)
+     *
+     * @param kid       키 식별자
+     * @param secretKey 시크릿 키
+     * @return 서명 키
+     */
+    public static JwtSigningKey hmac(String kid, SecretKey secretKey) {
+        return new JwtSigningKey(kid, SignatureAlgorithm.forSigningKey(secretKey), secretKey,
+            secretKey);
+    }
+
+    /**
+     * EC 키 생성 (ES256/384/512는 커브로 결정)
+     *
+     * @param kid        키 식별자
+     * @param privateKey 서명용 개인키, 검증 전용인 경우 null
+     * @param publicKey  검증용 공개키
+     * @return 서명 키
+     */
+    public static JwtSigningKey ec(String kid, PrivateKey privateKey, ECPublicKey publicKey) {
+        int fieldSize = publicKey.getParams().getCurve().getField().getFieldSize();
+        SignatureAlgorithm algorithm = switch (fieldSize) {
+            case 256 -> SignatureAlgorithm.ES256;
+            case 384 -> SignatureAlgorithm.ES384;
+            case 521 -> SignatureAlgorithm.ES512;
+            default -> throw new IllegalArgumentException("지원하지 않는 EC 커브입니다. size = " + fieldSize);
+        };
+
+        return new JwtSigningKey(kid, algorithm, privateKey, publicKey);
+    }
+
+    /**
+     * 데이터에 서명한다.
+     *
+     * @param data 서명할 데이터 (base64url 헤더.페이로드)
+     * @return 서명 값 (EC는 JWS 규격의 R||S 형식)
+     */
+    public byte[] sign(byte[] data) {
+        if (signKey == null) {
+            throw new IllegalStateException("검증 전용 키로는 서명할 수 없습니다. kid = " + kid);
+        }
+
+        if (algorithm.isHmac()) {
+            return macs.get().doFinal(data); // doFinal 이후 Mac은 같은 키로 초기화된 상태로 돌아감
+        }
+
+        try {
+            Signature signature = signatures.get();
+            signature.update(data);
+            return signature.sign(); // sign 이후 Signature는 같은 개인키로 초기화된 상태로 돌아감
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명 실패", e);
+        }
+    }
+
+    // 현재 스레드의 초기화된 Mac (HMAC 토큰 검증용, doFinal 이후 재사용 가능)
+    Mac getThreadMac() {
+        return macs.get();
+    }
+
+    /**
+     * 외부 서비스가 토큰을 검증할 수 있도록 공개키를 JWK 형식으로 반환한다.
+     *
+     * @return JWK, 공개할 수 없는 키(HMAC)인 경우 null
+     */
+    public Map<String, Object> toPublicJwk() {
+        if (!(verifyKey instanceof ECPublicKey publicKey)) {
+            return null;
+        }
+
+        int size = (publicKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("kid", kid);
+        jwk.put("crv", "P-" + publicKey.getParams().getCurve().getField().getFieldSize());
+        jwk.put("x", ENCODER.encodeToString(toFixedLength(publicKey.getW().getAffineX(), size)));
+        jwk.put("y", ENCODER.encodeToString(toFixedLength(publicKey.getW().getAffineY(), size)));
+
+        return jwk;
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(algorithm.getJcaName());
+            mac.init(signKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명 키 초기화 실패", e);
+        }
+    }
+
+    private Signature createSignature() {
+        try {
+            if (signKey == null) {
+                return null;
+            }
+
+            Signature signature = Signature.getInstance(algorithm.getJcaName() + "inP1363Format");
+            signature.initSign((PrivateKey) signKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명 키 초기화 실패", e);
+        }
+    }
+
+    // 좌표값을 부호 없는 고정 길이 바이트로 변환
+    private byte[] toFixedLength(BigInteger value, int size) {
+        byte[] bytes = value.toByteArray();
+
+        if (bytes.length == size) {
+            return bytes;
+        }
+
+        if (bytes.length > size) { // 부호 비트 때문에 앞에 붙은 0 제거
+            return Arrays.copyOfRange(bytes, bytes.length - size, bytes.length);
+        }
+
+        byte[] padded = new byte[size];
+        System.arraycopy(bytes, 0, padded, size - bytes.length, bytes.length);
+        return padded;
+    }
+}
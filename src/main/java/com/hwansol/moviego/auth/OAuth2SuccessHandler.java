@@ -27,9 +27,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
             .toList();
 
         // accessToken, refreshToken 발급
-        String accessToken = tokenProvider.generateAccessToken(authentication.getName(),
-            roles);
-        tokenProvider.generateRefreshToken(authentication.getName(), roles, response);
+        String accessToken = tokenProvider.issueTokens(authentication.getName(), roles, response);
 
         // 토큰 전달을 위한 JSON
         response.setContentType("application/json");
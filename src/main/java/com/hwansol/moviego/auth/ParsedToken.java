@@ -0,0 +1,108 @@
+package com.hwansol.moviego.auth;
+
+import com.hwansol.moviego.member.model.Role;
+import io.jsonwebtoken.Claims;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 토큰 정보. 토큰 하나당 한 번만 검증하고 요청 처리 전체에서 이 값을 재사용한다.
+ * <p>
+ * 토큰 payload 형식(codec)은 버전으로 구분한다.
+ * <ul>
+ *     <li>v1 (기존): roles는 문자열 배열, tokenVersion은 항상 포함</li>
+ *     <li>v2 (compact): "v":2 표시, 권한은 비트마스크("rl"), 토큰 버전("tv")은 0이 아닐 때만 포함</li>
+ * </ul>
+ * 두 형식 모두 검증할 수 있으므로 형식을 바꿔도 이전에 발급된 토큰은 계속 사용할 수 있다.
+ *
+ * @param jti          토큰 아이디 (없는 경우 null)
+ * @param memberId     회원 아이디 (sub)
+ * @param roles        회원 권한
+ * @param tokenVersion 토큰 버전
+ * @param issuedAt     생성 시간 (epoch millis)
+ * @param expiredAt    만료 시간 (epoch millis)
+ */
+public record ParsedToken(String jti, String memberId, List<String> roles, long tokenVersion,
+                          long issuedAt, long expiredAt) {
+
+    static final int LEGACY_CODEC = 1;
+    static final int COMPACT_CODEC = 2;
+
+    static final String KEY_ROLES = "roles";
+    static final String KEY_TOKEN_VERSION = "tokenVersion";
+    static final String KEY_CODEC_VERSION = "v";
+    static final String KEY_ROLE_MASK = "rl";
+    static final String KEY_COMPACT_TOKEN_VERSION = "tv";
+
+    /**
+     * jjwt로 검증한 Claims를 ParsedToken으로 변환한다.
+     *
+     * @param claims 검증된 Claims
+     * @return ParsedToken
+     */
+    public static ParsedToken from(Claims claims) {
+        boolean compact = toLong(claims.get(KEY_CODEC_VERSION)) == COMPACT_CODEC;
+
+        return new ParsedToken(
+            claims.getId(),
+            claims.getSubject(),
+            compact ? Role.fromMask((int) toLong(claims.get(KEY_ROLE_MASK))) : getRoles(claims),
+            toLong(claims.get(compact ? KEY_COMPACT_TOKEN_VERSION : KEY_TOKEN_VERSION)),
+            claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime(),
+            claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime());
+    }
+
+    /**
+     * 토큰 payload에 담을 claim 목록을 만든다.
+     *
+     * @param codecVersion payload 형식 버전 (1: 기존, 2: compact)
+     * @return claim 목록 (iat, exp는 초 단위)
+     */
+    public Map<String, Object> toClaims(int codecVersion) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+
+        if (codecVersion == COMPACT_CODEC) {
+            claims.put(KEY_CODEC_VERSION, COMPACT_CODEC);
+        }
+        claims.put(Claims.ID, jti);
+        claims.put(Claims.SUBJECT, memberId);
+
+        if (codecVersion == COMPACT_CODEC) {
+            claims.put(KEY_ROLE_MASK, Role.toMask(roles));
+            if (tokenVersion != 0) {
+                claims.put(KEY_COMPACT_TOKEN_VERSION, tokenVersion);
+            }
+        } else {
+            claims.put(KEY_ROLES, roles);
+            claims.put(KEY_TOKEN_VERSION, tokenVersion);
+        }
+
+        claims.put(Claims.ISSUED_AT, issuedAt / 1000); // 생성 날짜
+        claims.put(Claims.EXPIRATION, expiredAt / 1000); // 만료 날짜
+
+        return claims;
+    }
+
+    public boolean isExpired(long now) {
+        return expiredAt <= now;
+    }
+
+    // 토큰의 권한 정보를 문자열 리스트로 꺼내는 메소드
+    private static List<String> getRoles(Claims claims) {
+        Object roles = claims.get(KEY_ROLES);
+
+        if (roles instanceof List<?> list) {
+            return list.stream()
+                .map(String::valueOf)
+                .toList();
+        }
+
+        return roles == null ? List.of() : List.of(String.valueOf(roles));
+    }
+
+    // 숫자 claim 꺼내는 메소드 (값이 없는 경우 0으로 취급)
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
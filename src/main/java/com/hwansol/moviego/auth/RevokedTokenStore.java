@@ -0,0 +1,147 @@
+package com.hwansol.moviego.auth;
+
+import com.hwansol.moviego.config.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+// 무효화된 토큰(jti) 저장소 (서버 내부 블룸 필터 + redis 원본)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedTokenStore implements MessageListener {
+
+    private static final String REVOKED_TOKEN_KEY = "revokedToken:";
+    private static final String REVOKED_TOKEN_CHANNEL = "revokedToken";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${spring.jwt.revoked-token.expected-insertions:100000}")
+    private long expectedInsertions; // accessToken 유효 시간 동안 예상되는 무효화 토큰 수
+
+    @Value("${spring.jwt.revoked-token.fpp:0.001}")
+    private double fpp; // 블룸 필터 목표 오탐률
+
+    @Value("${spring.jwt.token-version.fail-open:false}")
+    private boolean failOpen; // redis 장애로 무효화 여부를 알 수 없는 경우 토큰 허용 여부 (토큰 버전과 같은 설정)
+
+    // accessToken 유효 시간마다 필터를 교체해 오래된 jti가 자연스럽게 빠지도록 두 세대를 유지
+    private volatile BloomFilter currentFilter;
+    private volatile BloomFilter previousFilter;
+    private volatile long rotatedAt;
+
+    @PostConstruct
+    void init() {
+        currentFilter = new BloomFilter(expectedInsertions, fpp);
+        previousFilter = new BloomFilter(expectedInsertions, fpp);
+        rotatedAt = System.currentTimeMillis();
+
+        redisMessageListenerContainer.addMessageListener(this,
+            new ChannelTopic(REVOKED_TOKEN_CHANNEL));
+        loadRevokedTokens();
+    }
+
+    /**
+     * 토큰을 무효화한다. redis에는 토큰 만료 시점까지만 저장되고, 다른 서버에는 pub/sub으로 전파된다. redis 장애 시에는
+     * 로그만 남기고 로그아웃은 계속 진행한다.
+     *
+     * @param jti       토큰 아이디
+     * @param expiredAt 토큰 만료 시간 (epoch millis)
+     */
+    public void revoke(String jti, long expiredAt) {
+        long ttl = expiredAt - System.currentTimeMillis();
+        if (ttl <= 0) { // 이미 만료된 토큰은 저장할 필요 없음
+            return;
+        }
+
+        filter().put(jti);
+
+        try {
+            redisTemplate.opsForValue().set(REVOKED_TOKEN_KEY + jti, "", Duration.ofMillis(ttl));
+            redisTemplate.convertAndSend(REVOKED_TOKEN_CHANNEL, jti);
+        } catch (DataAccessException e) {
+            log.error("토큰 무효화 실패 jti = {}, 원인 = {}", jti, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화된 토큰인지 확인한다. 블룸 필터에 없으면 redis 조회 없이 바로 false를 반환한다.
+     *
+     * @param jti 토큰 아이디
+     * @return 무효화된 토큰인 경우 true
+     */
+    public boolean isRevoked(String jti) {
+        filter(); // 필요 시 세대 교체
+        if (!currentFilter.mightContain(jti) && !previousFilter.mightContain(jti)) {
+            return false;
+        }
+
+        return isRevokedInStore(jti);
+    }
+
+    /**
+     * 블룸 필터를 거치지 않고 redis에서 바로 무효화 여부를 확인한다. (refreshToken처럼 유효 시간이 필터 주기보다 긴 토큰용)
+     *
+     * @param jti 토큰 아이디
+     * @return 무효화된 토큰인 경우 true (redis 장애로 알 수 없는 경우 fail-open 설정이 아니면 true)
+     */
+    public boolean isRevokedInStore(String jti) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_TOKEN_KEY + jti));
+        } catch (DataAccessException e) {
+            log.error("무효화 토큰 조회 실패 = {}", e.getMessage());
+            return !failOpen;
+        }
+    }
+
+    // 다른 서버에서 무효화한 토큰 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        filter().put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 현재 세대 필터 반환 (accessToken 유효 시간이 지나면 세대 교체)
+    private BloomFilter filter() {
+        long now = System.currentTimeMillis();
+
+        if (now - rotatedAt >= TokenProvider.ACCESS_TOKEN_EXPIRE_TIME) {
+            synchronized (this) {
+                if (now - rotatedAt >= TokenProvider.ACCESS_TOKEN_EXPIRE_TIME) {
+                    previousFilter = currentFilter;
+                    currentFilter = new BloomFilter(expectedInsertions, fpp);
+                    rotatedAt = now;
+                }
+            }
+        }
+
+        return currentFilter;
+    }
+
+    // 서버 시작 시 redis에 남아있는 무효화 토큰으로 필터 채우기
+    private void loadRevokedTokens() {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(REVOKED_TOKEN_KEY + "*")
+            .count(1000)
+            .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(
+                key -> currentFilter.put(key.substring(REVOKED_TOKEN_KEY.length())));
+        } catch (DataAccessException e) {
+            log.error("무효화 토큰 목록 로드 실패 = {}", e.getMessage());
+        }
+    }
+}
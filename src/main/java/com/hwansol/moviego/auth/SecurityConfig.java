@@ -47,9 +47,11 @@ public class SecurityConfig {
             .authorizeHttpRequests(authorizeRequest -> authorizeRequest
                 .requestMatchers(HttpMethod.GET, "/api/members/member").authenticated()
                 .requestMatchers(HttpMethod.POST, "/api/members/member/signout").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/members/member/signout/all").authenticated()
                 .requestMatchers(HttpMethod.PATCH, "/api/members/member/email").authenticated()
                 .requestMatchers(HttpMethod.PATCH, "/api/members/member/pw").authenticated()
                 .requestMatchers(HttpMethod.DELETE, "/api/members/member").authenticated()
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().permitAll()
             )
 
@@ -1,20 +1,23 @@
 package com.hwansol.moviego.auth;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.model.PrincipalDetails;
+import com.hwansol.moviego.member.model.Role;
 import com.hwansol.moviego.member.service.MemberDetailsService;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Header;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Date;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,7 +25,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -31,16 +35,24 @@ import org.springframework.util.StringUtils;
 @Slf4j
 public class TokenProvider {
 
-    private static final String KEY_ROLES = "roles";
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60; // 1hour
+    static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60; // 1hour
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 24 * 1000 * 60 * 60; // 24hour
     private static final String TOKEN_HEADER = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
     private static final String COOKIE_NAME = "refreshToken";
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
     private final MemberDetailsService memberDetailsService;
+    private final ClaimsCache claimsCache;
+    private final TokenVersionService tokenVersionService;
+    private final JwtKeyRing jwtKeyRing;
+    private final ObjectMapper objectMapper;
+    private final RevokedTokenStore revokedTokenStore;
 
-    @Value("${spring.jwt.secret}")
-    private String secret;
+    @Value("${spring.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal; // true인 경우 인증 시 회원 DB 조회 없이 토큰 정보로 인증 객체 생성
+
+    @Value("${spring.jwt.compact-claims:true}")
+    private boolean compactClaims; // true인 경우 짧은 claim 형식(v2)으로 토큰 발급
 
     /**
      * accessToken 생성
@@ -67,25 +79,40 @@ public class TokenProvider {
     }
 
     /**
-     * accessToken 재발급
+     * accessToken, refreshToken을 함께 발급한다. refreshToken은 쿠키에 저장한다.
+     *
+     * @param memberId 회원 아이디
+     * @param roles    회원 권한
+     * @param response HttpServletResponse
+     * @return 생성된 accessToken
+     */
+    public String issueTokens(String memberId, List<String> roles, HttpServletResponse response) {
+        generateRefreshToken(memberId, roles, response);
+
+        return generateAccessToken(memberId, roles);
+    }
+
+    /**
+     * accessToken 재발급 (refreshToken은 한 번만 검증)
      *
      * @param request  HttpServletRequest
      * @param response HttpServletResponse
      * @return 재발급된 accessToken
      */
     public String reGenerateAccessToken(HttpServletRequest request, HttpServletResponse response) {
-        String refreshToken = getRefreshTokenFromCookie(request);
+        ParsedToken refreshToken = parseToken(getRefreshTokenFromCookie(request));
 
         if (!validateToken(refreshToken)) { // refreshToken이 만료된 경우
             throw new TokenException(TokenErrorCode.EXPIRED_REFRESH_TOKEN);
         }
 
-        String memberId = getMemberId(refreshToken);
-        List<String> roles = getMemberRole(refreshToken);
-
-        generateRefreshToken(memberId, roles, response); // 새로운 refreshToken 발급 후 쿠키에 저장
+        // refreshToken은 블룸 필터 주기보다 오래 유효하므로 redis에서 바로 확인
+        if (refreshToken.jti() != null && revokedTokenStore.isRevokedInStore(refreshToken.jti())) {
+            throw new TokenException(TokenErrorCode.REVOKED_TOKEN);
+        }
 
-        return generateAccessToken(memberId, roles); // 새로운 accessToken 발급
+        // 새로운 refreshToken 발급 후 쿠키에 저장, 새로운 accessToken 발급
+        return issueTokens(refreshToken.memberId(), refreshToken.roles(), response);
     }
 
     /**
@@ -95,41 +122,57 @@ public class TokenProvider {
      * @param response HttpServletResponse
      */
     public void logout(HttpServletRequest request, HttpServletResponse response) {
+        revokeToken(resolveTokenFromRequest(request)); // 사용 중인 accessToken 무효화
+        revokeToken(getRefreshTokenFromCookie(request)); // 사용 중인 refreshToken 무효화
         deleteRefreshToken(request, response); // refreshToken을 쿠키에서 지움
     }
 
     /**
-     * jwt를 통해 회원 인증 정보를 가져온다.
+     * 모든 기기에서 로그아웃
      *
-     * @param jwt
-     * @return 회원의 인증 정보
+     * @param memberId 회원 아이디
+     * @param request  HttpServletRequest
+     * @param response HttpServletResponse
      */
-    @Transactional
-    public Authentication getAuthentication(String jwt) {
-        UserDetails userDetails = memberDetailsService.loadUserByUsername(getMemberId(jwt));
-
-        return new UsernamePasswordAuthenticationToken(userDetails, "",
-            userDetails.getAuthorities());
+    public void logoutAll(String memberId, HttpServletRequest request,
+        HttpServletResponse response) {
+        revokeAllTokens(memberId);
+        deleteRefreshToken(request, response);
     }
 
     /**
-     * 토큰에서 회원 아이디를 가져온다.
+     * 회원에게 발급된 모든 accessToken, refreshToken을 무효화한다. 트랜잭션 안에서 호출한 경우 커밋 이후에 무효화해,
+     * 비밀번호 변경 등이 롤백되었는데 로그아웃만 되는 경우를 막는다.
      *
-     * @param token 토큰
-     * @return 회원 아이디
+     * @param memberId 회원 아이디
      */
-    public String getMemberId(String token) {
-        return parseClaims(token).getSubject();
+    public void revokeAllTokens(String memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenVersionService.increaseVersion(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenVersionService.increaseVersion(memberId);
+            }
+        });
     }
 
     /**
-     * 토큰에서 회원 권한을 가져온다.
+     * 검증된 토큰 정보로 회원 인증 정보를 가져온다. stateless-principal 설정 시 DB 조회 없이 토큰의 sub, roles 정보로
+     * 인증 객체를 만든다.
      *
-     * @param token 토큰
-     * @return 회원 권한
+     * @param parsedToken 검증된 토큰 정보
+     * @return 회원의 인증 정보
      */
-    public List<String> getMemberRole(String token) {
-        return List.of(String.valueOf(parseClaims(token).get(KEY_ROLES)));
+    public Authentication getAuthentication(ParsedToken parsedToken) {
+        UserDetails userDetails = statelessPrincipal ? createPrincipal(parsedToken)
+            : memberDetailsService.loadUserByUsername(parsedToken.memberId());
+
+        return new UsernamePasswordAuthenticationToken(userDetails, "",
+            userDetails.getAuthorities());
     }
 
     /**
@@ -149,58 +192,119 @@ public class TokenProvider {
     }
 
     /**
-     * 토큰이 빈 문자열인지와 만료 여부를 확인한다.
+     * 토큰 서명을 검증하고 토큰 정보를 가져온다. 이미 검증된 토큰은 캐시에서 가져오고 서명 검증을 생략한다.
      *
      * @param token 토큰
-     * @return 올바른 토큰인 경우 true 아닌 경우 false
+     * @return 검증된 토큰 정보
      */
-    public boolean validateToken(String token) {
-        if (!StringUtils.hasText(token)) {
-            return false;
+    public ParsedToken parseToken(String token) {
+        ParsedToken cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
         }
 
-        Claims claims = parseClaims(token);
+        try {
+            ParsedToken parsedToken = jwtKeyRing.verify(token);
+            claimsCache.put(token, parsedToken);
 
-        return !claims.getExpiration().before(new Date());
+            return parsedToken;
+        } catch (ExpiredJwtException e) {
+            log.error("토큰 정보 에러 = {}", e.getMessage());
+            throw new TokenException(TokenErrorCode.EXPIRED_ACCESS_TOKEN);
+        }
     }
 
-    // 서명할 시크릿 키
-    private Key getSecretKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * 토큰의 만료 여부, 무효화 여부를 확인한다.
+     *
+     * @param parsedToken 검증된 토큰 정보
+     * @return 올바른 토큰인 경우 true 아닌 경우 false
+     */
+    public boolean validateToken(ParsedToken parsedToken) {
+        if (tokenVersionService.isRevoked(parsedToken.memberId(), parsedToken.tokenVersion())) {
+            throw new TokenException(TokenErrorCode.REVOKED_TOKEN);
+        }
+
+        if (parsedToken.jti() != null && revokedTokenStore.isRevoked(parsedToken.jti())) {
+            throw new TokenException(TokenErrorCode.REVOKED_TOKEN);
+        }
+
+        return !parsedToken.isExpired(System.currentTimeMillis());
     }
 
-    // 토큰 정보 가져오는 메소드
-    private Claims parseClaims(String token) {
+    // 토큰 하나를 무효화하는 메소드 (이미 만료되었거나 올바르지 않은 토큰은 무시)
+    private void revokeToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return;
+        }
+
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        } catch (ExpiredJwtException e) {
-            log.error("토큰 정보 에러 = {}", e.getMessage());
-            throw new TokenException(TokenErrorCode.EXPIRED_ACCESS_TOKEN);
+            ParsedToken parsedToken = parseToken(token);
+
+            if (parsedToken.jti() != null) {
+                revokedTokenStore.revoke(parsedToken.jti(), parsedToken.expiredAt());
+            }
+        } catch (TokenException | JwtException e) {
+            log.info("무효화할 필요 없는 토큰 = {}", e.getMessage());
         }
     }
 
-    // 토큰 생성하는 메소드
+    // 토큰 정보만으로 인증 객체 생성하는 메소드 (권한을 알 수 없는 경우 DB 조회)
+    private UserDetails createPrincipal(ParsedToken parsedToken) {
+        Role role = parsedToken.roles().stream()
+            .map(Role::from)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+
+        if (role == null) {
+            return memberDetailsService.loadUserByUsername(parsedToken.memberId());
+        }
+
+        return PrincipalDetails.of(parsedToken.memberId(), role);
+    }
+
+    // 토큰 생성하는 메소드 (미리 만들어 둔 헤더와 스레드별 Mac으로 서명)
     private String createToken(String memberId, List<String> roles, long tokenExpiredTime) {
-        Claims claims = Jwts.claims().setSubject(memberId);
-        claims.put(KEY_ROLES, roles);
+        long now = System.currentTimeMillis() / 1000 * 1000; // 현재 날짜 (토큰에는 초 단위로 저장)
+        long expiredDate = now + tokenExpiredTime; // 만료 날짜
+        // 토큰 아이디 (개별 토큰 무효화용)
+        String jti = compactClaims ? createCompactJti() : UUID.randomUUID().toString();
+        long tokenVersion = tokenVersionService.getCurrentVersion(memberId); // 방금 올린 버전 반영
+        List<String> tokenRoles =
+            compactClaims ? Role.fromMask(Role.toMask(roles)) : List.copyOf(roles);
+
+        ParsedToken parsedToken = new ParsedToken(jti, memberId, tokenRoles, tokenVersion, now,
+            expiredDate);
+        Map<String, Object> claims = parsedToken.toClaims(
+            compactClaims ? ParsedToken.COMPACT_CODEC : ParsedToken.LEGACY_CODEC);
+
+        JwtSigningKey signingKey = jwtKeyRing.getCurrentKey();
+        String content = signingKey.getEncodedHeader() + "." + encodePayload(claims);
+        byte[] signature = signingKey.sign(content.getBytes(StandardCharsets.US_ASCII));
+        String token = content + "." + BASE64_URL_ENCODER.encodeToString(signature);
+
+        // 직접 서명한 토큰이므로 첫 요청에서도 서명 검증 없이 사용할 수 있도록 캐시에 저장
+        claimsCache.put(token, parsedToken);
+
+        return token;
+    }
 
-        Date now = new Date(); // 현재 날짜
-        Date expiredDate = new Date(now.getTime() + tokenExpiredTime); // 만료 날짜
+    // 96bit 랜덤 값을 base64url로 인코딩한 짧은 토큰 아이디 (UUID 36자 -> 16자)
+    private String createCompactJti() {
+        byte[] bytes = new byte[12];
+        ThreadLocalRandom.current().nextBytes(bytes);
 
-        Key KEY = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        return BASE64_URL_ENCODER.encodeToString(bytes);
+    }
 
-        return Jwts.builder()
-            .setClaims(claims)
-            .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
-            .setIssuedAt(now) // 생성 날짜
-            .setExpiration(expiredDate) // 만료 날짜
-            .signWith(getSecretKey())
-            .compact();
+    // 토큰 정보를 json으로 직렬화 후 base64url 인코딩하는 메소드
+    private String encodePayload(Map<String, Object> claims) {
+        try {
+            return BASE64_URL_ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("토큰 정보 직렬화 실패", e);
+        }
     }
 
     // refreshToken 쿠키에 저장하는 메소드
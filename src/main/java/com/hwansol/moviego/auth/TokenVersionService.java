@@ -0,0 +1,128 @@
+package com.hwansol.moviego.auth;
+
+import com.hwansol.moviego.config.LocalCacheEviction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 회원별 토큰 버전 관리 (버전을 올리면 이전 버전으로 발급된 모든 토큰이 무효화된다)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenVersionService {
+
+    private static final String TOKEN_VERSION_KEY = "tokenVersion:";
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, CachedVersion> localCache = new ConcurrentHashMap<>();
+
+    @Value("${spring.jwt.token-version.local-cache-millis:3000}")
+    private long localCacheMillis; // 서버 내부 캐시 유지 시간
+
+    @Value("${spring.jwt.token-version.local-cache-max-size:100000}")
+    private int localCacheMaxSize; // 서버 내부 캐시 최대 개수
+
+    @Value("${spring.jwt.token-version.fail-open:false}")
+    private boolean failOpen; // redis 장애로 버전을 알 수 없는 경우 토큰 허용 여부 (기본은 거부)
+
+    /**
+     * 회원의 현재 토큰 버전을 가져온다. 짧은 시간 동안은 서버 내부 캐시의 값을 사용한다.
+     *
+     * @param memberId 회원 아이디
+     * @return 현재 토큰 버전, redis 장애 시 마지막으로 조회한 버전 (조회한 적이 없는 경우 -1)
+     */
+    public long getVersion(String memberId) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = localCache.get(memberId);
+
+        if (cached != null && cached.expiredAt() > now) {
+            return cached.version();
+        }
+
+        return loadVersion(memberId, cached, now);
+    }
+
+    /**
+     * 서버 내부 캐시를 거치지 않고 redis에서 회원의 현재 토큰 버전을 가져온다. 토큰을 발급할 때 사용해 방금 올린 버전보다
+     * 낮은 버전으로 발급되지 않게 한다.
+     *
+     * @param memberId 회원 아이디
+     * @return 현재 토큰 버전, redis 장애 시 마지막으로 조회한 버전 (조회한 적이 없는 경우 0)
+     */
+    public long getCurrentVersion(String memberId) {
+        long version = loadVersion(memberId, localCache.get(memberId), System.currentTimeMillis());
+
+        return Math.max(version, 0L);
+    }
+
+    /**
+     * 회원의 토큰 버전을 올려 이전에 발급된 모든 토큰을 무효화한다.
+     *
+     * @param memberId 회원 아이디
+     * @return 증가된 토큰 버전
+     */
+    public long increaseVersion(String memberId) {
+        Long version = redisTemplate.opsForValue().increment(TOKEN_VERSION_KEY + memberId);
+        long increased = version == null ? 0L : version;
+
+        // 이전 버전이 남아 있지 않도록 서버 내부 캐시를 올린 버전으로 바로 교체
+        cache(memberId, increased, System.currentTimeMillis());
+
+        return increased;
+    }
+
+    /**
+     * 토큰에 담긴 버전이 현재 버전보다 낮은지(무효화된 토큰인지) 확인한다.
+     *
+     * @param memberId     회원 아이디
+     * @param tokenVersion 토큰에 담긴 버전
+     * @return 무효화된 토큰인 경우 true (버전을 알 수 없는 경우 fail-open 설정이 아니면 true)
+     */
+    public boolean isRevoked(String memberId, long tokenVersion) {
+        long version = getVersion(memberId);
+
+        if (version == UNKNOWN_VERSION) {
+            return !failOpen;
+        }
+
+        return tokenVersion < version;
+    }
+
+    // redis 장애 시에는 만료된 캐시라도 마지막으로 조회한 버전 사용
+    private long loadVersion(String memberId, CachedVersion cached, long now) {
+        try {
+            String value = redisTemplate.opsForValue().get(TOKEN_VERSION_KEY + memberId);
+
+            return cache(memberId, value == null ? 0L : Long.parseLong(value), now);
+        } catch (DataAccessException e) {
+            log.error("토큰 버전 조회 실패 = {}", e.getMessage());
+            return cached != null ? cached.version() : UNKNOWN_VERSION;
+        }
+    }
+
+    // 버전은 줄어들지 않으므로 동시에 저장하는 경우 높은 버전을 유지
+    private long cache(String memberId, long version, long now) {
+        CachedVersion loaded = new CachedVersion(version, now + localCacheMillis);
+
+        // 가득 찬 경우 전체를 비우지 않고 만료된(없으면 가장 먼저 만료되는) 항목만 제거
+        if (!localCache.containsKey(memberId)
+            && !LocalCacheEviction.makeRoom(localCache, localCacheMaxSize,
+            CachedVersion::expiredAt, now)) {
+            return version;
+        }
+
+        return localCache.merge(memberId, loaded, (previous, current) ->
+            previous.version() > current.version()
+                ? new CachedVersion(previous.version(), current.expiredAt()) : current).version();
+    }
+
+    private record CachedVersion(long version, long expiredAt) {
+
+    }
+}
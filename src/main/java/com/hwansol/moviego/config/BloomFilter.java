@@ -0,0 +1,126 @@
+package com.hwansol.moviego.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 고정 메모리 블룸 필터 (없다는 대답은 항상 정확하고, 있다는 대답은 오탐 가능)
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBitCount = new AtomicLong();
+    private final AtomicLong insertCount = new AtomicLong();
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 블룸 필터를 만든다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param fpp                목표 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+
+        this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    /**
+     * 값을 추가한다.
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Long.remainderUnsigned(h1 + i * h2, bitSize));
+        }
+        insertCount.incrementAndGet();
+    }
+
+    /**
+     * 값이 있을 수도 있는지 확인한다.
+     *
+     * @param value 확인할 값
+     * @return 없는 경우 false (확실), 있을 수도 있는 경우 true
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // 전체 비트 중 1인 비트 비율
+    public double getFillRatio() {
+        return (double) setBitCount.get() / bitSize;
+    }
+
+    // 현재 채워진 비율 기준 예상 오탐률
+    public double getExpectedFpp() {
+        return Math.pow(getFillRatio(), hashCount);
+    }
+
+    public long getInsertCount() {
+        return insertCount.get();
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long old;
+
+        do {
+            old = bits.get(word);
+            if ((old & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, old, old | mask));
+
+        setBitCount.incrementAndGet();
+    }
+
+    // FNV-1a 64bit 해시
+    private long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    // 해시 비트를 고르게 섞기 위한 murmur3 finalizer
+    private long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb1a5e2c3cdd3L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hwansol.moviego.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+// 복제 DB가 설정된 경우 읽기 전용 트랜잭션을 복제 DB로 보내는 DataSource 설정 (설정이 없으면 기본 DataSource 사용)
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "urls")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+        DataSourceProperties properties,
+        @Value("${spring.datasource.replica.urls}") String[] replicaUrls,
+        @Value("${spring.datasource.replica.retry-millis:10000}") long retryMillis) {
+        List<DataSource> replicas = new ArrayList<>();
+
+        for (String replicaUrl : replicaUrls) {
+            if (StringUtils.hasText(replicaUrl)) {
+                HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrl.trim())
+                    .build();
+                replica.setPoolName("replica-" + replicas.size());
+                replica.setReadOnly(true);
+                replicas.add(replica);
+            }
+        }
+
+        return new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primaryDataSource, replicas, retryMillis));
+    }
+}
@@ -0,0 +1,40 @@
+package com.hwansol.moviego.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 복제 DB 대신 주 DB에서 조회해야 하는 경우 사용한다. (방금 변경한 값을 바로 다시 읽는 경우 등)
+ * <p>
+ * 연결은 트랜잭션의 첫 쿼리에서 정해지므로, 같은 트랜잭션에서 이미 쿼리를 실행한 이후에는 효과가 없다.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * usePrimary가 true인 경우 주 DB에서 조회를 실행한다.
+     *
+     * @param usePrimary 주 DB 사용 여부
+     * @param query      조회
+     * @return 조회 결과
+     */
+    public static <T> T onPrimaryIf(boolean usePrimary, Supplier<T> query) {
+        if (!usePrimary || isPrimaryForced()) {
+            return query.get();
+        }
+
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            PRIMARY.remove();
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY.get() != null;
+    }
+}
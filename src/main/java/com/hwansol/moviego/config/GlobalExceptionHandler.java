@@ -2,6 +2,8 @@ package com.hwansol.moviego.config;
 
 import com.hwansol.moviego.auth.TokenException;
 import com.hwansol.moviego.mail.exception.MailException;
+import com.hwansol.moviego.member.dto.MemberDuplicatedIdDto;
+import com.hwansol.moviego.member.exception.DuplicatedIdException;
 import com.hwansol.moviego.member.exception.MemberException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -10,6 +12,7 @@ import java.util.List;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
@@ -115,6 +119,17 @@ public class GlobalExceptionHandler {
             .body("필수값인 RequestParam 값이 존재하지 않습니다.");
     }
 
+    // RequestParam 값을 변환할 수 없는 경우 에러 핸들러 (목록에 없는 enum 값, 날짜 형식 등)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    private ResponseEntity<String> handleMethodArgumentTypeMismatchException(
+        MethodArgumentTypeMismatchException e) {
+
+        log.error("RequestParam 값 변환 실패", e);
+
+        return ResponseEntity.badRequest()
+            .body(e.getName() + " 값이 올바르지 않습니다.");
+    }
+
     // unique 제약 조건 위반 exception 핸들러
     @ExceptionHandler(DataIntegrityViolationException.class)
     private ResponseEntity<String> handleDataIntegrityViolationException(
@@ -126,6 +141,17 @@ public class GlobalExceptionHandler {
             .body("unique 제약 조건에 위반된 요청입니다. 생성 또는 변경하려는 요청 중 중복된 값이 포함되어있습니다.");
     }
 
+    // 같은 회원 정보를 동시에 변경한 경우 (나중 요청은 다시 시도해야 함)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    private ResponseEntity<String> handleOptimisticLockingFailureException(
+        OptimisticLockingFailureException e) {
+
+        log.error("동시 변경 충돌", e);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body("다른 요청에서 먼저 정보가 변경되었습니다. 다시 시도해주세요.");
+    }
+
     @ExceptionHandler(HandlerMethodValidationException.class)
     private ResponseEntity<String> handleHandlerMethodValidationException(
         HandlerMethodValidationException e) {
@@ -144,11 +170,20 @@ public class GlobalExceptionHandler {
             .body(e.getMessage());
     }
 
+    @ExceptionHandler(DuplicatedIdException.class)
+    private ResponseEntity<MemberDuplicatedIdDto.Response> handleDuplicatedIdException(
+        DuplicatedIdException e) {
+        log.error("아이디 중복", e);
+
+        return ResponseEntity.badRequest()
+            .body(MemberDuplicatedIdDto.Response.from(e));
+    }
+
     @ExceptionHandler(MailException.class)
     private ResponseEntity<String> handleMailException(MailException e) {
         log.error("메일 관련 에러 발생", e);
 
-        return ResponseEntity.internalServerError()
+        return ResponseEntity.status(e.getMailErrorCode().getStatus())
             .body(e.getMessage());
     }
 
@@ -0,0 +1,57 @@
+package com.hwansol.moviego.config;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+// 최대 크기가 정해진 서버 내부 캐시(ConcurrentHashMap)의 자리 확보 (전체 잠금 없이 일부 항목만 확인해 제거)
+public final class LocalCacheEviction {
+
+    private static final int SAMPLE_SIZE = 16; // 자리 확보 시 확인하는 항목 수
+
+    private LocalCacheEviction() {
+    }
+
+    /**
+     * 캐시가 가득 찬 경우 일부 항목을 확인해 만료된 항목을 제거하고, 만료된 항목이 없으면 그중 가장 먼저 만료되는 항목을
+     * 제거한다. 캐시 전체를 비우지 않으므로 자주 조회되는 항목은 대부분 남는다.
+     *
+     * @param cache     캐시
+     * @param maxSize   최대 개수
+     * @param expiredAt 항목의 만료 시간 (epoch millis)
+     * @param now       현재 시간 (epoch millis)
+     * @return 새 항목을 저장할 수 있는 경우 true (최대 개수가 0 이하인 경우 false)
+     */
+    public static <K, V> boolean makeRoom(Map<K, V> cache, int maxSize,
+        ToLongFunction<V> expiredAt, long now) {
+        if (maxSize <= 0) {
+            return false;
+        }
+
+        if (cache.size() < maxSize) {
+            return true;
+        }
+
+        Map.Entry<K, V> oldest = null;
+        boolean removed = false;
+        Iterator<Map.Entry<K, V>> iterator = cache.entrySet().iterator();
+
+        for (int i = 0; i < SAMPLE_SIZE && iterator.hasNext(); i++) {
+            Map.Entry<K, V> entry = iterator.next();
+            long entryExpiredAt = expiredAt.applyAsLong(entry.getValue());
+
+            if (entryExpiredAt <= now) {
+                removed |= cache.remove(entry.getKey(), entry.getValue());
+            } else if (oldest == null
+                || entryExpiredAt < expiredAt.applyAsLong(oldest.getValue())) {
+                oldest = entry;
+            }
+        }
+
+        if (!removed && oldest != null) {
+            cache.remove(oldest.getKey(), oldest.getValue());
+        }
+
+        return true;
+    }
+}
@@ -1,5 +1,8 @@
 package com.hwansol.moviego.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.dto.MemberCacheDto;
+import com.hwansol.moviego.member.service.MemberCacheService;
 import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
@@ -8,7 +11,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -22,8 +27,12 @@ public class RedisConfig {
     @Value("${spring.data.redis.host}")
     private String host;
 
+    @Value("${spring.cache.member.redis-cache-minutes:10}")
+    private long memberCacheMinutes; // redis 회원 캐시 수명
+
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+        ObjectMapper objectMapper) {
         RedisCacheConfiguration redisConfiguration = RedisCacheConfiguration.defaultCacheConfig()
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(
                 new StringRedisSerializer())) // 키값 직렬화
@@ -31,9 +40,26 @@ public class RedisConfig {
                 new GenericJackson2JsonRedisSerializer())) // value값 직렬화
             .entryTtl(Duration.ofMinutes(30)); // 캐시 수명
 
+        // 회원 캐시는 타입을 지정해 직렬화 (LocalDateTime 등은 스프링 ObjectMapper 설정 사용)
+        RedisCacheConfiguration memberConfiguration = redisConfiguration
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                new Jackson2JsonRedisSerializer<>(objectMapper, MemberCacheDto.class)))
+            .entryTtl(Duration.ofMinutes(memberCacheMinutes));
+
         return RedisCacheManager.RedisCacheManagerBuilder
             .fromConnectionFactory(redisConnectionFactory)
             .cacheDefaults(redisConfiguration)
+            .withCacheConfiguration(MemberCacheService.MEMBER_CACHE, memberConfiguration)
             .build();
     }
+
+    // 서버 간 캐시 동기화 메시지(pub/sub) 수신 컨테이너
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+
+        return container;
+    }
 }
@@ -0,0 +1,121 @@
+package com.hwansol.moviego.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제 DB로, 나머지는 주 DB로 보내는 DataSource. 복제 DB는 돌아가면서 사용하고, 연결에 실패한 복제 DB는
+ * 일정 시간 동안 제외한다. 사용할 수 있는 복제 DB가 없으면 주 DB를 사용한다.
+ * <p>
+ * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 연결을 가져오도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final long retryMillis; // 연결에 실패한 복제 DB를 다시 사용하기까지의 시간
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+        long retryMillis) {
+        this.retryMillis = retryMillis;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i);
+            replicas.add(replica);
+            targets.put(replica.key, replicaDataSources.get(i));
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || DataSourceRouting.isPrimaryForced() || replicas.isEmpty()) {
+            return PRIMARY;
+        }
+
+        long now = System.currentTimeMillis();
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.downUntil <= now) {
+                return replica.key;
+            }
+        }
+
+        return PRIMARY;
+    }
+
+    // 복제 DB 연결에 실패한 경우 해당 복제 DB를 제외하고 다시 시도 (마지막에는 주 DB 사용)
+    private Connection getConnection(ConnectionOpener opener) throws SQLException {
+        while (true) {
+            Object key = determineCurrentLookupKey();
+            DataSource target = getResolvedDataSources().get(key);
+
+            try {
+                return opener.open(target);
+            } catch (SQLException e) {
+                if (PRIMARY.equals(key)) {
+                    throw e;
+                }
+
+                markDown(key, e);
+            }
+        }
+    }
+
+    private void markDown(Object key, SQLException e) {
+        for (Replica replica : replicas) {
+            if (replica.key.equals(key)) {
+                replica.downUntil = System.currentTimeMillis() + retryMillis;
+            }
+        }
+
+        log.warn("복제 DB 연결 실패 {}ms 동안 제외 key = {}, 원인 = {}", retryMillis, key, e.getMessage());
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private volatile long downUntil; // 이 시간까지 사용하지 않음 (epoch millis)
+
+        private Replica(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.hwansol.moviego.config;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+// 시간 순서로 증가하는 64비트 id를 insert 전에 만든다 (IDENTITY와 달리 insert를 묶어서 실행 가능)
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface TimeOrderedId {
+
+}
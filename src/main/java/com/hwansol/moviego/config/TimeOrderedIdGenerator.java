@@ -0,0 +1,84 @@
+package com.hwansol.moviego.config;
+
+import java.lang.reflect.Member;
+import java.util.function.LongSupplier;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * 시간 순서 id 생성기. 41비트 시간(기준 시각 이후 밀리초) + 10비트 서버 번호 + 12비트 순번으로 만든다.
+ * <p>
+ * 서버 번호는 hibernate 설정 moviego.id.node-id(spring.jpa.properties.moviego.id.node-id)로 지정하며, 서버마다
+ * 달라야 한다. 기본값이 없으므로 설정하지 않으면 서버가 시작되지 않는다.
+ * <p>
+ * 같은 밀리초에 순번을 모두 사용하거나 시계가 뒤로 가는 경우 다음 밀리초를 미리 사용해 항상 증가하는 값을 만든다.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "moviego.id.node-id";
+
+    static final long EPOCH = 1735689600000L; // 2025-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member,
+        CustomIdGeneratorCreationContext context) {
+        this(parseNodeId(context.getServiceRegistry().requireService(ConfigurationService.class)
+            .getSettings().get(NODE_ID_SETTING)), System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                NODE_ID_SETTING + "는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. nodeId = " + nodeId);
+        }
+
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    synchronized long nextId() {
+        long timestamp = Math.max(clock.getAsLong(), lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) { // 같은 밀리초의 순번을 모두 사용한 경우
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | sequence;
+    }
+
+    // 서버 번호를 설정하지 않은 여러 서버가 같은 id를 만들지 않도록 기본값 없이 서버 시작 실패
+    static long parseNodeId(Object value) {
+        String nodeId = value == null ? "" : value.toString().trim();
+
+        if (nodeId.isEmpty() || nodeId.startsWith("${")) { // 환경 변수가 없어 치환되지 않은 경우 포함
+            throw new IllegalStateException(NODE_ID_SETTING
+                + "(NODE_ID)를 설정해야 합니다. 서버가 하나인 경우에도 0으로 명시해주세요.");
+        }
+
+        return Long.parseLong(nodeId);
+    }
+}
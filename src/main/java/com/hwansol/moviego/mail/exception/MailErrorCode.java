@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum MailErrorCode {
 
-    FAIL_SEND_MAIL(HttpStatus.INTERNAL_SERVER_ERROR.value(), "메시지 전송 실패, 서버 관리자에게 문의하세요.");
+    FAIL_SEND_MAIL(HttpStatus.INTERNAL_SERVER_ERROR.value(), "메시지 전송 실패, 서버 관리자에게 문의하세요."),
+    MAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE.value(), "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final int status;
     private final String message;
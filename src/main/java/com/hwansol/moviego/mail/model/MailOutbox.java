@@ -0,0 +1,96 @@
+package com.hwansol.moviego.mail.model;
+
+import com.hwansol.moviego.config.TimeOrderedId;
+import com.hwansol.moviego.mail.service.MailType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보낼 메일. 메일을 보내게 된 변경(임시 비밀번호 등)과 같은 트랜잭션에서 저장하고, 발송은 커밋 후 relay가 한다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "mail_outbox", indexes = {
+    // 발송할 메일을 nextAttemptAt 순서로 조회
+    @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+public class MailOutbox {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false)
+    private String userEmail; // 받을 사람 이메일
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailType mailType; // 메일 형식
+
+    @Column
+    private String content; // 회원에게 알려줄 내용 (암호화해서 저장, 발송 완료, 포기 시 삭제)
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailStatus status; // 발송 상태
+
+    @Column(nullable = false)
+    private int attempts; // 발송 시도 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // 이 시각 이후 발송 (발송 중인 경우 다른 서버가 다시 보내기까지의 시각)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 저장 날짜
+
+    @Column
+    private LocalDateTime sentAt; // 발송 날짜
+
+    @Column(length = 500)
+    private String lastError; // 마지막 발송 실패 원인
+
+    /**
+     * 보낼 메일을 만든다.
+     *
+     * @param userEmail 받을 사람 이메일
+     * @param content   회원에게 알려줄 내용 (암호화된 값)
+     * @param mailType  메일 형식
+     * @param now       현재 시각
+     * @return 바로 보낼 수 있는 메일
+     */
+    public static MailOutbox pending(String userEmail, String content, MailType mailType,
+        LocalDateTime now) {
+        return MailOutbox.builder()
+            .userEmail(userEmail)
+            .content(content)
+            .mailType(mailType)
+            .status(MailStatus.PENDING)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build();
+    }
+
+    /**
+     * 발송을 시작한다. 발송 결과를 기록하기 전에 서버가 종료된 경우 leaseUntil 이후 다시 보낸다.
+     *
+     * @param leaseUntil 다른 서버가 다시 보내기까지의 시각
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+}
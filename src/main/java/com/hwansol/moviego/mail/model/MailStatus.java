@@ -0,0 +1,7 @@
+package com.hwansol.moviego.mail.model;
+
+public enum MailStatus {
+    PENDING, // 발송 대기 (발송 중인 메일은 nextAttemptAt까지 다른 서버가 가져가지 않음)
+    SENT, // 발송 완료
+    FAILED // 최대 재시도 횟수를 넘어 발송 포기
+}
@@ -0,0 +1,76 @@
+package com.hwansol.moviego.mail.repository;
+
+import com.hwansol.moviego.mail.model.MailOutbox;
+import com.hwansol.moviego.mail.model.MailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송할 메일을 잠그고 조회, 다른 서버가 잠근 행은 기다리지 않고 건너뜀 (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from MailOutbox o where o.status = :status and o.nextAttemptAt <= :now"
+        + " order by o.nextAttemptAt, o.id")
+    List<MailOutbox> findSendable(@Param("status") MailStatus status,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 아래 변경은 가져갈 때 기록한 시도 횟수가 그대로인 경우에만 적용 (lease가 지나 다른 서버가 다시 가져간 메일의 이전
+    // 발송 결과가 덮어쓰지 않도록 fencing), 0을 반환하면 다른 서버가 가져간 메일
+
+    // 발송 직전 lease 연장 (발송 대기열에서 기다린 시간과 관계없이 SMTP 시간 동안 다른 서버가 가져가지 않음)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox o set o.nextAttemptAt = :leaseUntil where o.id = :id"
+        + " and o.attempts = :attempts"
+        + " and o.status = com.hwansol.moviego.mail.model.MailStatus.PENDING")
+    int renewLease(@Param("id") Long id, @Param("attempts") int attempts,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 발송 완료 (보낸 내용은 삭제)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox o set o.status = com.hwansol.moviego.mail.model.MailStatus.SENT,"
+        + " o.sentAt = :sentAt, o.content = null, o.lastError = null where o.id = :id"
+        + " and o.attempts = :attempts"
+        + " and o.status = com.hwansol.moviego.mail.model.MailStatus.PENDING")
+    int markSent(@Param("id") Long id, @Param("attempts") int attempts,
+        @Param("sentAt") LocalDateTime sentAt);
+
+    // 발송 실패 후 nextAttemptAt 이후 다시 발송
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox o set o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError"
+        + " where o.id = :id and o.attempts = :attempts"
+        + " and o.status = com.hwansol.moviego.mail.model.MailStatus.PENDING")
+    int markRetry(@Param("id") Long id, @Param("attempts") int attempts,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    // 발송 포기 (보낼 내용은 삭제)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox o set o.status = com.hwansol.moviego.mail.model.MailStatus.FAILED,"
+        + " o.content = null, o.lastError = :lastError where o.id = :id"
+        + " and o.attempts = :attempts"
+        + " and o.status = com.hwansol.moviego.mail.model.MailStatus.PENDING")
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts,
+        @Param("lastError") String lastError);
+
+    // 보관 기간이 지난 발송 완료 메일 id 조회
+    @Query("select o.id from MailOutbox o where o.status = :status and o.sentAt < :before"
+        + " order by o.id")
+    List<Long> findIdsSentBefore(@Param("status") MailStatus status,
+        @Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -0,0 +1,97 @@
+package com.hwansol.moviego.mail.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * outbox에 저장하는 메일 내용 암호화 (AES-GCM). 임시 비밀번호, 인증번호가 발송 전까지 DB에 평문으로 남지 않게 한다.
+ * <p>
+ * 저장 형식은 base64(12바이트 IV + 암호문)이다. 키는 모든 서버에 같은 값을 설정해야 다른 서버가 저장한 메일도 보낼 수 있다.
+ */
+@Component
+public class MailContentCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    public MailContentCipher(@Value("${spring.mail.outbox.encryption-key:}") String encryptionKey) {
+        // 평문으로 저장되지 않도록 키가 없는 경우 서버를 시작하지 않음
+        if (!StringUtils.hasText(encryptionKey)) {
+            throw new IllegalStateException(
+                "spring.mail.outbox.encryption-key(MAIL_OUTBOX_KEY)를 설정해야 합니다.");
+        }
+
+        byte[] keyBytes = Base64.getDecoder().decode(encryptionKey.trim());
+        if (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32) {
+            throw new IllegalStateException("spring.mail.outbox.encryption-key는 base64 인코딩된 "
+                + "16, 24, 32바이트 AES 키여야 합니다. length = " + keyBytes.length);
+        }
+
+        this.key = new SecretKeySpec(keyBytes, "AES");
+    }
+
+    /**
+     * 메일 내용을 암호화한다.
+     *
+     * @param content 메일 내용
+     * @return 암호화된 내용 (내용이 null인 경우 null)
+     */
+    public String encrypt(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(content.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(
+                ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("메일 내용 암호화 실패", e);
+        }
+    }
+
+    /**
+     * 암호화된 메일 내용을 복호화한다.
+     *
+     * @param encrypted 암호화된 내용
+     * @return 메일 내용 (암호화된 내용이 null인 경우 null)
+     */
+    public String decrypt(String encrypted) {
+        if (encrypted == null) {
+            return null;
+        }
+
+        byte[] bytes = Base64.getDecoder().decode(encrypted);
+
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key,
+                new GCMParameterSpec(TAG_BITS, bytes, 0, IV_LENGTH));
+
+            return new String(cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH),
+                StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("메일 내용 복호화 실패", e);
+        }
+    }
+}
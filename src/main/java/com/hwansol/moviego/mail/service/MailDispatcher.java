@@ -0,0 +1,220 @@
+package com.hwansol.moviego.mail.service;
+
+import com.hwansol.moviego.mail.exception.MailErrorCode;
+import com.hwansol.moviego.mail.exception.MailException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 발송 대기열. relay가 outbox에서 가져온 메일을 대기열에 넣으면 발송 스레드가 꺼내 SMTP 서버로 보내고 결과를
+ * 알려준다.
+ * <p>
+ * 대기열 크기를 넘으면 잠시 기다린 뒤 실패해(backpressure) SMTP 서버가 느려져도 메모리가 계속 늘어나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailDispatcher {
+
+    private static final long POLL_MILLIS = 1000; // 종료 여부를 확인하는 간격
+
+    private final JavaMailSender javaMailSender;
+    private final BlockingQueue<Delivery> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+
+    @Value("${spring.mail.dispatch.queue-capacity:1000}")
+    private int queueCapacity; // 대기열 최대 크기
+
+    @Value("${spring.mail.dispatch.workers:4}")
+    private int workerCount; // 동시에 SMTP 서버로 보내는 스레드 수
+
+    @Value("${spring.mail.dispatch.virtual-threads:true}")
+    private boolean virtualThreads; // 가능한 경우(JDK 21 이상) 가상 스레드로 발송
+
+    @Value("${spring.mail.dispatch.enqueue-timeout-millis:100}")
+    private long enqueueTimeoutMillis; // 대기열이 가득 찬 경우 자리가 나기를 기다리는 시간
+
+    @Value("${spring.mail.dispatch.shutdown-timeout-millis:10000}")
+    private long shutdownTimeoutMillis; // 서버 종료 시 남은 메일을 보내기 위해 기다리는 시간
+
+    private Semaphore capacity; // 대기열 남은 자리
+    private volatile boolean accepting = true;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    void init() {
+        capacity = new Semaphore(queueCapacity);
+        ThreadFactory threadFactory = threadFactory();
+
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = threadFactory.newThread(this::work);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 메일을 대기열에 넣는다.
+     *
+     * @param message  보낼 메일
+     * @param callback 발송 여부 확인, 발송 결과를 받을 callback (발송 스레드에서 호출)
+     */
+    public void dispatch(MimeMessage message, Callback callback) {
+        if (!accepting || !tryAcquire()) {
+            throw new MailException(MailErrorCode.MAIL_QUEUE_FULL);
+        }
+
+        queue.add(new Delivery(message, callback));
+    }
+
+    /**
+     * 대기열 남은 자리를 조회한다.
+     *
+     * @return 기다리지 않고 넣을 수 있는 메일 수 (서버 종료 중인 경우 0)
+     */
+    public int availableCapacity() {
+        return accepting ? capacity.availablePermits() : 0;
+    }
+
+    // 남은 메일을 정해진 시간 동안 보낸 뒤 발송 스레드 종료
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        accepting = false;
+
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        while (!queue.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        stopped = true;
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()) + POLL_MILLIS);
+        }
+
+        if (!queue.isEmpty()) {
+            log.warn("서버 종료로 보내지 못한 메일 수 = {} (outbox에서 다시 발송)", queue.size());
+        }
+    }
+
+    private void work() {
+        while (!stopped) {
+            Delivery delivery;
+            try {
+                delivery = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (delivery != null) {
+                capacity.release();
+                send(delivery);
+            }
+        }
+    }
+
+    private void send(Delivery delivery) {
+        if (!isSendable(delivery)) {
+            return;
+        }
+
+        try {
+            javaMailSender.send(delivery.message());
+        } catch (RuntimeException e) { // 한 메일의 실패로 발송 스레드가 멈추지 않도록 결과만 알린다
+            log.warn("메일 발송 실패 받는 사람 = {}, 원인 = {}", recipients(delivery.message()),
+                e.getMessage());
+            complete(() -> delivery.callback().onFailed(e));
+            return;
+        }
+
+        complete(() -> delivery.callback().onSent());
+    }
+
+    // 대기열에서 기다리는 동안 다른 서버가 다시 가져간 메일은 보내지 않음
+    private boolean isSendable(Delivery delivery) {
+        try {
+            return delivery.callback().onSending();
+        } catch (RuntimeException e) {
+            log.error("메일 발송 전 확인 실패 = {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void complete(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            log.error("메일 발송 결과 처리 실패 = {}", e.getMessage());
+        }
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return capacity.tryAcquire(enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ThreadFactory threadFactory() {
+        if (virtualThreads) {
+            try {
+                return new VirtualThreadTaskExecutor("mail-dispatch-").getVirtualThreadFactory();
+            } catch (UnsupportedOperationException e) {
+                log.info("가상 스레드를 지원하지 않아 플랫폼 스레드로 메일 발송");
+            }
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mail-dispatch-");
+        threadFactory.setDaemon(true);
+
+        return threadFactory;
+    }
+
+    private String recipients(MimeMessage message) {
+        try {
+            return Arrays.toString(message.getAllRecipients());
+        } catch (MessagingException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * 발송 결과 callback
+     */
+    public interface Callback {
+
+        /**
+         * 발송 직전에 발송 스레드에서 호출한다.
+         *
+         * @return 보내야 하는 경우 true, false인 경우 보내지 않고 결과도 알리지 않음
+         */
+        boolean onSending();
+
+        void onSent();
+
+        void onFailed(Exception e);
+    }
+
+    private record Delivery(MimeMessage message, Callback callback) {
+
+    }
+}
@@ -0,0 +1,10 @@
+package com.hwansol.moviego.mail.service;
+
+/**
+ * outbox에 메일이 저장됨 (커밋 후 relay가 기다리지 않고 바로 발송하도록 알림)
+ *
+ * @param outboxId 저장된 메일 id
+ */
+public record MailOutboxEvent(Long outboxId) {
+
+}
@@ -0,0 +1,247 @@
+package com.hwansol.moviego.mail.service;
+
+import com.hwansol.moviego.mail.model.MailOutbox;
+import com.hwansol.moviego.mail.model.MailStatus;
+import com.hwansol.moviego.mail.repository.MailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메일 outbox relay. outbox에서 보낼 메일을 가져와 발송 대기열에 넣고, 발송 결과를 outbox에 기록한다.
+ * <p>
+ * 가져올 때는 짧은 트랜잭션에서 행을 잠그고(SKIP LOCKED로 다른 서버가 잠근 행은 건너뜀) 시도 횟수와 lease 시각만 기록한 뒤
+ * 바로 커밋하므로, SMTP 서버와 통신하는 동안에는 DB 연결과 잠금을 잡지 않는다. 결과를 기록하기 전에 서버가 종료된 메일은
+ * lease 시각 이후 다시 보내고, 실패한 메일은 점점 긴 간격으로 최대 횟수까지 다시 보낸다.
+ * <p>
+ * 발송 직전 lease를 연장하고 발송 결과를 기록할 때는 가져갈 때의 시도 횟수가 그대로인지 확인해, 대기열에서 기다리는 동안
+ * lease가 지나 다른 서버가 다시 가져간 메일은 보내지 않고 이전 결과가 새 시도의 상태를 덮어쓰지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailService mailService;
+    private final MailDispatcher mailDispatcher;
+    private final PlatformTransactionManager transactionManager;
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    @Value("${spring.mail.outbox.batch-size:100}")
+    private int batchSize; // 한 번에 가져오는 메일 수
+
+    @Value("${spring.mail.outbox.poll-millis:1000}")
+    private long pollMillis; // 보낼 메일이 없는 경우 다시 확인하기까지의 시간
+
+    @Value("${spring.mail.outbox.lease-millis:300000}")
+    private long leaseMillis; // 가져간 메일을 다른 서버가 다시 보내기까지의 시간
+
+    @Value("${spring.mail.outbox.max-attempts:5}")
+    private int maxAttempts; // 최대 발송 시도 횟수
+
+    @Value("${spring.mail.outbox.backoff-millis:10000}")
+    private long backoffMillis; // 첫 재시도까지의 시간 (시도할 때마다 두 배)
+
+    @Value("${spring.mail.outbox.max-backoff-millis:3600000}")
+    private long maxBackoffMillis; // 재시도 간격 최대값
+
+    @Value("${spring.mail.outbox.retention-days:7}")
+    private int retentionDays; // 발송 완료 메일 보관 기간
+
+    private Thread relayThread;
+    private volatile boolean stopped;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mail-relay-");
+        threadFactory.setDaemon(true);
+
+        relayThread = threadFactory.newThread(this::run);
+        relayThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        stopped = true;
+        wakeUp.release();
+
+        if (relayThread != null) {
+            relayThread.join(pollMillis + 1000);
+        }
+    }
+
+    /**
+     * 메일이 저장된 트랜잭션이 커밋되면 다음 확인 시간까지 기다리지 않고 바로 가져온다.
+     *
+     * @param event 저장된 메일
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMailOutboxSaved(MailOutboxEvent event) {
+        wakeUp.release();
+    }
+
+    /**
+     * 보낼 메일을 한 번 가져와 발송 대기열에 넣는다.
+     *
+     * @return 가져온 메일 수
+     */
+    public int relay() {
+        int limit = Math.min(batchSize, mailDispatcher.availableCapacity());
+        if (limit <= 0) { // 발송 대기열이 가득 찬 경우 자리가 날 때까지 가져오지 않는다
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> claimed = new TransactionTemplate(transactionManager).execute(status -> {
+            List<MailOutbox> outboxes = mailOutboxRepository.findSendable(MailStatus.PENDING, now,
+                PageRequest.of(0, limit));
+            outboxes.forEach(outbox -> outbox.claim(now.plus(Duration.ofMillis(leaseMillis))));
+
+            return outboxes;
+        });
+
+        if (claimed == null) {
+            return 0;
+        }
+
+        for (MailOutbox outbox : claimed) {
+            try {
+                mailDispatcher.dispatch(mailService.createMail(outbox), callback(outbox));
+            } catch (RuntimeException e) { // 대기열이 가득 찼거나 메일을 만들 수 없는 경우 (복호화 실패 등)
+                retryOrFail(outbox, e);
+            }
+        }
+
+        return claimed.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일을 나눠서 삭제한다.
+     */
+    @Scheduled(cron = "${spring.mail.outbox.purge-cron:0 30 4 * * *}")
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long purgedCount = 0;
+
+        try {
+            List<Long> ids;
+            do {
+                ids = mailOutboxRepository.findIdsSentBefore(MailStatus.SENT, before,
+                    PageRequest.of(0, PURGE_CHUNK_SIZE));
+                mailOutboxRepository.deleteAllByIdInBatch(ids);
+                purgedCount += ids.size();
+            } while (ids.size() == PURGE_CHUNK_SIZE);
+
+            log.info("발송 완료 메일 삭제 완료 삭제한 메일 수 = {}", purgedCount);
+        } catch (DataAccessException e) {
+            log.error("발송 완료 메일 삭제 실패 = {}", e.getMessage());
+        }
+    }
+
+    private void run() {
+        while (!stopped) {
+            int claimedCount;
+            try {
+                claimedCount = relay();
+            } catch (DataAccessException e) {
+                log.error("보낼 메일 조회 실패 = {}", e.getMessage());
+                claimedCount = 0;
+            } catch (RuntimeException e) { // 예상하지 못한 오류로 relay 스레드가 종료되지 않도록 다음 확인 시간에 다시 시도
+                log.error("메일 relay 실패", e);
+                claimedCount = 0;
+            }
+
+            if (claimedCount == 0) {
+                await();
+            }
+        }
+    }
+
+    private void await() {
+        try {
+            wakeUp.tryAcquire(pollMillis, TimeUnit.MILLISECONDS);
+            wakeUp.drainPermits();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        }
+    }
+
+    // 발송 결과 기록 (기록하기 전에 서버가 종료된 경우 lease 시각 이후 다시 발송)
+    private MailDispatcher.Callback callback(MailOutbox outbox) {
+        return new MailDispatcher.Callback() {
+            @Override
+            public boolean onSending() {
+                LocalDateTime leaseUntil = LocalDateTime.now().plus(Duration.ofMillis(leaseMillis));
+                if (mailOutboxRepository.renewLease(outbox.getId(), outbox.getAttempts(),
+                    leaseUntil) == 0) {
+                    log.info("다른 서버가 다시 가져간 메일 발송 생략 id = {}", outbox.getId());
+                    return false;
+                }
+
+                return true;
+            }
+
+            @Override
+            public void onSent() {
+                if (mailOutboxRepository.markSent(outbox.getId(), outbox.getAttempts(),
+                    LocalDateTime.now()) == 0) {
+                    log.warn("다른 서버가 다시 가져간 메일의 발송 완료 기록 생략 id = {}", outbox.getId());
+                }
+            }
+
+            @Override
+            public void onFailed(Exception e) {
+                retryOrFail(outbox, e);
+            }
+        };
+    }
+
+    private void retryOrFail(MailOutbox outbox, Exception e) {
+        String error = truncate(e.getMessage());
+        int updated;
+
+        if (outbox.getAttempts() >= maxAttempts) {
+            log.error("메일 발송 포기 id = {}, 시도 횟수 = {}, 원인 = {}", outbox.getId(),
+                outbox.getAttempts(), error);
+            updated = mailOutboxRepository.markFailed(outbox.getId(), outbox.getAttempts(), error);
+        } else {
+            long backoff = Math.min(maxBackoffMillis,
+                backoffMillis << Math.min(outbox.getAttempts() - 1, 20));
+            updated = mailOutboxRepository.markRetry(outbox.getId(), outbox.getAttempts(),
+                LocalDateTime.now().plus(Duration.ofMillis(backoff)), error);
+        }
+
+        if (updated == 0) {
+            log.warn("다른 서버가 다시 가져간 메일의 발송 실패 기록 생략 id = {}", outbox.getId());
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
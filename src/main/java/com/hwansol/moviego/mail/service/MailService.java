@@ -2,40 +2,67 @@ package com.hwansol.moviego.mail.service;
 
 import com.hwansol.moviego.mail.exception.MailErrorCode;
 import com.hwansol.moviego.mail.exception.MailException;
+import com.hwansol.moviego.mail.model.MailOutbox;
+import com.hwansol.moviego.mail.repository.MailOutboxRepository;
 import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeMessage.RecipientType;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
     private final JavaMailSender javaMailSender;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MailContentCipher mailContentCipher;
 
     @Value("${spring.mail.sender-email}")
     private String sender; // 메일 보내는 사람 아이디
 
     /**
-     * 이메일 전송
+     * 이메일 전송 (outbox에 저장하고 바로 반환, 커밋 후 relay가 발송)
+     * <p>
+     * 호출한 트랜잭션에 함께 저장되므로 롤백된 변경의 메일은 보내지 않는다. 읽기 전용 트랜잭션 안에서는 저장되지 않으므로
+     * 호출하지 않는다. 내용(임시 비밀번호, 인증번호 등)은 암호화해서 저장한다.
      *
      * @param userEmail - 받을 사람 이메일 주소
      * @param content   - 회원에게 알려줄 내용
      * @param mailType  - 어떤 형식의 메일인지 알려주는 enum
      */
+    @Transactional
     public void sendEmail(String userEmail, String content, MailType mailType) {
-        MimeMessage message = createMail(userEmail, content, mailType);
-        javaMailSender.send(message);
+        MailOutbox outbox = mailOutboxRepository.save(
+            MailOutbox.pending(userEmail, mailContentCipher.encrypt(content), mailType,
+                LocalDateTime.now()));
+
+        eventPublisher.publishEvent(new MailOutboxEvent(outbox.getId())); // 커밋 후 relay에 알림
     }
 
-    private MimeMessage createMail(String userEmail, String content, MailType mailType) {
-        MimeMessage message = javaMailSender.createMimeMessage();
+    /**
+     * outbox에 저장된 메일을 만든다. 같은 메일을 다시 보내도 받는 쪽에서 중복을 거를 수 있도록 Message-ID는 outbox id로
+     * 고정한다.
+     *
+     * @param outbox 보낼 메일
+     * @return 발송할 메일
+     */
+    MimeMessage createMail(MailOutbox outbox) {
+        Session session = javaMailSender.createMimeMessage().getSession();
+        MimeMessage message = new OutboxMimeMessage(session,
+            "<mail-outbox-" + outbox.getId() + "@moviego>");
 
-        String subject = setSubject(mailType);
-        String body = setBody(mailType, content);
+        String subject = setSubject(outbox.getMailType());
+        String body = setBody(outbox.getMailType(),
+            mailContentCipher.decrypt(outbox.getContent()));
+        String userEmail = outbox.getUserEmail();
 
         try {
             message.setFrom(sender);
@@ -85,4 +112,20 @@ public class MailService {
         body += "<h3>감사합니다.</h3>";
         return body;
     }
+
+    // Message-ID를 발송 시 새로 만들지 않고 지정한 값으로 유지
+    private static final class OutboxMimeMessage extends MimeMessage {
+
+        private final String messageId;
+
+        private OutboxMimeMessage(Session session, String messageId) {
+            super(session);
+            this.messageId = messageId;
+        }
+
+        @Override
+        protected void updateMessageID() throws MessagingException {
+            setHeader("Message-ID", messageId);
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package com.hwansol.moviego.member.controller;
+
+import com.hwansol.moviego.member.dto.MemberAdminDto;
+import com.hwansol.moviego.member.dto.MemberArchiveDto;
+import com.hwansol.moviego.member.dto.MemberAvailabilityFilterDto;
+import com.hwansol.moviego.member.dto.MemberImportDto;
+import com.hwansol.moviego.member.service.MemberAdminService;
+import com.hwansol.moviego.member.service.MemberArchiveService;
+import com.hwansol.moviego.member.service.MemberAvailabilityFilter;
+import com.hwansol.moviego.member.service.MemberImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class MemberAdminController {
+
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
+    private final MemberImportService memberImportService;
+    private final MemberAdminService memberAdminService;
+    private final MemberArchiveService memberArchiveService;
+
+    /**
+     * 회원 목록 조회 컨트롤러. id 순서로 cursor 이후 회원을 조회한다.
+     *
+     * @param cursor      이전 목록의 nextCursor (처음인 경우 생략)
+     * @param size        조회 수
+     * @param createdFrom 가입일시 이후 (포함)
+     * @param createdTo   가입일시 이전 (미포함)
+     * @param provider    가입 방식 (LOCAL, KAKAO)
+     * @param deletion    탈퇴 여부 (ACTIVE, DELETED, ALL)
+     * @return 성공 시 200 코드와 회원 목록, 다음 목록 cursor
+     */
+    @GetMapping
+    public ResponseEntity<MemberAdminDto.Page> getMembersController(
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "100") int size,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdTo,
+        @RequestParam(required = false) MemberAdminDto.Provider provider,
+        @RequestParam(defaultValue = "ACTIVE") MemberAdminDto.Deletion deletion) {
+        MemberAdminDto.Condition condition = condition(createdFrom, createdTo, provider,
+            deletion);
+
+        return ResponseEntity.ok(memberAdminService.getMembers(condition, cursor, size));
+    }
+
+    /**
+     * 회원 내보내기 컨트롤러. 조건에 맞는 회원 전체를 id 순서로 한 행씩 읽어 바로 내려보낸다.
+     *
+     * @param format      내보낼 형식 (CSV, NDJSON)
+     * @param createdFrom 가입일시 이후 (포함)
+     * @param createdTo   가입일시 이전 (미포함)
+     * @param provider    가입 방식 (LOCAL, KAKAO)
+     * @param deletion    탈퇴 여부 (ACTIVE, DELETED, ALL)
+     * @return 성공 시 200 코드와 회원 파일
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembersController(
+        @RequestParam(defaultValue = "NDJSON") MemberImportDto.Format format,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdTo,
+        @RequestParam(required = false) MemberAdminDto.Provider provider,
+        @RequestParam(defaultValue = "ACTIVE") MemberAdminDto.Deletion deletion) {
+        MemberAdminDto.Condition condition = condition(createdFrom, createdTo, provider,
+            deletion);
+        StreamingResponseBody body = outputStream -> memberAdminService.exportMembers(condition,
+            format, outputStream);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("members." + format.getExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+
+    /**
+     * 아이디, 이메일 사용 여부 필터 상태 조회 컨트롤러
+     *
+     * @return 성공 시 200 코드와 필터 상태 (채워진 비율, 예상 오탐률 등)
+     */
+    @GetMapping("/availability-filter")
+    public ResponseEntity<MemberAvailabilityFilterDto.Response> getAvailabilityFilterController() {
+        MemberAvailabilityFilterDto.Response response = MemberAvailabilityFilterDto.Response.from(
+            memberAvailabilityFilter);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 아이디, 이메일 사용 여부 필터 재생성 컨트롤러 (서버 간 전파가 누락된 경우 등)
+     *
+     * @return 성공 시 200 코드와 재생성된 필터 상태
+     */
+    @PostMapping("/availability-filter/rebuild")
+    public ResponseEntity<MemberAvailabilityFilterDto.Response> rebuildAvailabilityFilterController() {
+        memberAvailabilityFilter.rebuild();
+
+        MemberAvailabilityFilterDto.Response response = MemberAvailabilityFilterDto.Response.from(
+            memberAvailabilityFilter);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 회원 가져오기 컨트롤러. 요청 본문을 한 줄씩 읽어 저장하므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+     *
+     * @param request   CSV(text/csv, 첫 줄은 userId,userEmail,userPw) 또는 NDJSON(application/x-ndjson)
+     *                  본문 요청, 비밀번호는 bcrypt로 암호화된 값
+     * @param startLine 이 줄 번호까지는 건너뛴다 (중단된 가져오기의 checkpoint)
+     * @return 성공 시 200 코드와 저장한 회원 수, 저장하지 못한 줄, checkpoint
+     */
+    @PostMapping(value = "/import", consumes = {MemberImportDto.CSV, MemberImportDto.NDJSON})
+    public ResponseEntity<MemberImportDto.Response> importMembersController(
+        HttpServletRequest request, @RequestParam(defaultValue = "0") long startLine)
+        throws IOException {
+        MemberImportDto.Format format = MemberImportDto.Format.from(request.getContentType());
+        MemberImportDto.Response response = memberImportService.importMembers(
+            new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8), format,
+            startLine);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 진행 중이거나 마지막으로 진행한 회원 가져오기 상태 조회 컨트롤러
+     *
+     * @return 성공 시 200 코드와 가져오기 상태, 가져오기를 한 적이 없는 경우 204 코드
+     */
+    @GetMapping("/import/status")
+    public ResponseEntity<MemberImportDto.Response> getImportStatusController() {
+        MemberImportDto.Response response = memberImportService.getStatus();
+
+        return response == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
+    /**
+     * 탈퇴 회원 보관 작업 상태 조회 컨트롤러
+     *
+     * @return 성공 시 200 코드와 마지막 작업 결과, 보관 기간이 지났는데 옮기지 못한 회원의 지연 시간
+     */
+    @GetMapping("/archive/status")
+    public ResponseEntity<MemberArchiveDto.Response> getArchiveStatusController() {
+        return ResponseEntity.ok(memberArchiveService.getStatus());
+    }
+
+    private MemberAdminDto.Condition condition(LocalDateTime createdFrom, LocalDateTime createdTo,
+        MemberAdminDto.Provider provider, MemberAdminDto.Deletion deletion) {
+        return MemberAdminDto.Condition.builder()
+            .createdFrom(createdFrom)
+            .createdTo(createdTo)
+            .provider(provider)
+            .deletion(deletion)
+            .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.hwansol.moviego.member.controller;
 
 import com.hwansol.moviego.member.dto.MemberAuthDto;
+import com.hwansol.moviego.member.dto.MemberAvailabilityDto;
+import com.hwansol.moviego.member.dto.MemberCacheDto;
 import com.hwansol.moviego.member.dto.MemberDeleteDto;
 import com.hwansol.moviego.member.dto.MemberFindIdDto;
 import com.hwansol.moviego.member.dto.MemberFindIdDto.Response;
@@ -69,6 +71,20 @@ public class MemberController {
         return ResponseEntity.ok("사용가능한 이메일입니다.");
     }
 
+    /**
+     * 아이디, 이메일 사용 가능 여부 일괄 확인 컨트롤러
+     *
+     * @param request MemberAvailabilityDto.Request
+     * @return 성공 시 200 상태코드와 값별 사용 가능 여부, 실패 시 에러코드와 에러 메시지
+     */
+    @PostMapping("/availability")
+    public ResponseEntity<MemberAvailabilityDto.Response> checkAvailabilityController(
+        @Valid @RequestBody MemberAvailabilityDto.Request request) {
+        MemberAvailabilityDto.Response response = memberService.checkAvailability(request);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 아이디 찾기 컨트롤러
      *
@@ -79,9 +95,7 @@ public class MemberController {
     public ResponseEntity<MemberFindIdDto.Response> findIdController(
         @NotBlank(message = "이메일을 입력해주세요.")
         @Pattern(regexp = "^[a-zA-Z0-9+-_.]+@[a-zA-Z0-9-]+\\.[a-zA-Z0-9-.]+$", message = "올바른 이메일 형식을 입력해주세요.") @RequestParam String userEmail) {
-        Member member = memberService.findId(userEmail);
-
-        Response response = Response.from(member);
+        Response response = memberService.findId(userEmail);
 
         return ResponseEntity.ok(response);
     }
@@ -114,7 +128,7 @@ public class MemberController {
     PrincipalDetails principalDetails) {
         String userId = principalDetails.getUsername();
 
-        Member member = memberService.getMember(userId);
+        MemberCacheDto member = memberService.getMember(userId);
         MemberGetDto.Response response = MemberGetDto.Response.from(member);
 
         return ResponseEntity.ok(response);
@@ -196,6 +210,24 @@ public class MemberController {
         return ResponseEntity.ok("로그아웃 되었습니다.");
     }
 
+    /**
+     * 모든 기기 로그아웃 컨트롤러
+     *
+     * @param principalDetails PrincipalDetails
+     * @param request          HttpServletRequest
+     * @param response         HttpServletResponse
+     * @return 성공 시 200 코드와 성공메시지, 실패 시 에러코드와 에러메시지
+     */
+    @PreAuthorize("hasRole('USER')")
+    @PostMapping("/member/signout/all")
+    public ResponseEntity<String> signOutAllController(
+        @AuthenticationPrincipal PrincipalDetails principalDetails, HttpServletRequest request,
+        HttpServletResponse response) {
+        memberService.signOutAll(principalDetails.getUsername(), request, response);
+
+        return ResponseEntity.ok("모든 기기에서 로그아웃 되었습니다.");
+    }
+
     /**
      * 회원 이메일 변경 컨트롤러
      *
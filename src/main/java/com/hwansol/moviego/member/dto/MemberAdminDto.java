@@ -0,0 +1,83 @@
+package com.hwansol.moviego.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.hwansol.moviego.member.model.OAuthProvider;
+import com.hwansol.moviego.member.model.Role;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 관리자 회원 목록, 내보내기 관련 dto
+public class MemberAdminDto {
+
+    // 가입 방식 조건
+    public enum Provider {
+        LOCAL, // 일반 회원가입 (소셜 로그인 구분 없음)
+        KAKAO;
+
+        // 소셜 로그인 구분 (일반 회원가입인 경우 null)
+        public OAuthProvider toOAuthProvider() {
+            return this == LOCAL ? null : OAuthProvider.valueOf(name());
+        }
+    }
+
+    // 탈퇴 여부 조건
+    public enum Deletion {
+        ACTIVE, DELETED, ALL
+    }
+
+    // 목록, 내보내기 조건 (null인 조건은 사용하지 않음)
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Condition {
+
+        private LocalDateTime createdFrom; // 가입일시 이후 (포함)
+        private LocalDateTime createdTo; // 가입일시 이전 (미포함)
+        private Provider provider;
+
+        @Builder.Default
+        private Deletion deletion = Deletion.ACTIVE;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Row {
+
+        @JsonFormat(shape = Shape.STRING) // 53비트를 넘는 id를 자바스크립트에서도 그대로 읽도록 문자열로 전달
+        private Long id;
+
+        private String userId;
+        private String userEmail;
+        private Role role;
+        private OAuthProvider oAuthProvider;
+
+        @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime createdAt;
+
+        @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime modifiedAt;
+
+        @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime delDate;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Page {
+
+        private List<Row> members;
+
+        @JsonFormat(shape = Shape.STRING)
+        private Long nextCursor; // 다음 목록 요청 시 cursor 값 (마지막 목록인 경우 null)
+    }
+}
@@ -0,0 +1,37 @@
+package com.hwansol.moviego.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 탈퇴 회원 보관 작업 관련 dto
+public class MemberArchiveDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Response {
+
+        private boolean running; // 이 서버에서 작업 중인지 여부
+
+        @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime lastStartedAt; // 이 서버에서 마지막으로 작업을 시작한 날짜
+
+        @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime lastFinishedAt; // 이 서버에서 마지막으로 작업을 끝낸 날짜
+
+        private long lastArchivedCount; // 마지막 작업에서 옮긴 회원 수
+        private long totalArchivedCount; // 서버 시작 후 옮긴 회원 수
+
+        @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime oldestDelDate; // 회원 테이블에 남은 가장 오래된 탈퇴 날짜
+
+        private long lagSeconds; // 보관 기간이 지났는데 옮기지 못한 가장 오래된 회원의 지연 시간
+    }
+}
@@ -0,0 +1,41 @@
+package com.hwansol.moviego.member.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아이디, 이메일 사용 가능 여부 일괄 확인 dto
+public class MemberAvailabilityDto {
+
+    public static final int MAX_SIZE = 20; // 한 번에 확인할 수 있는 아이디, 이메일 최대 개수 (각각)
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder(toBuilder = true)
+    public static class Request {
+
+        @Size(max = MAX_SIZE, message = "아이디는 한 번에 20개까지 확인할 수 있습니다.")
+        private List<@NotBlank(message = "아이디를 입력해주세요.") @Pattern(regexp = "^[a-zA-Z][a-zA-Z0-9]*$", message = "아이디는 영문 또는 영문 + 숫자 조합으로 작성해야 합니다.") String> userIds;
+
+        @Size(max = MAX_SIZE, message = "이메일은 한 번에 20개까지 확인할 수 있습니다.")
+        private List<@NotBlank(message = "이메일을 입력해주세요.") @Pattern(regexp = "^[a-zA-Z0-9+-_.]+@[a-zA-Z0-9-]+\\.[a-zA-Z0-9-.]+$", message = "올바른 이메일 형식을 입력해주세요.") String> userEmails;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Response {
+
+        private Map<String, Boolean> userIds; // 아이디 -> 사용 가능 여부
+        private Map<String, Boolean> userEmails; // 이메일 -> 사용 가능 여부
+    }
+}
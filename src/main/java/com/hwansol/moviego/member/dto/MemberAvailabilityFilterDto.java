@@ -0,0 +1,57 @@
+package com.hwansol.moviego.member.dto;
+
+import com.hwansol.moviego.config.BloomFilter;
+import com.hwansol.moviego.member.service.MemberAvailabilityFilter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아이디, 이메일 사용 여부 필터 상태 조회 dto
+public class MemberAvailabilityFilterDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Response {
+
+        private boolean ready; // 필터 생성 완료 여부 (false인 경우 모든 확인이 DB 조회)
+        private long builtAt; // 필터 생성 시간 (epoch millis)
+        private FilterStatus userId;
+        private FilterStatus userEmail;
+
+        public static MemberAvailabilityFilterDto.Response from(MemberAvailabilityFilter filter) {
+            return Response.builder()
+                .ready(filter.isReady())
+                .builtAt(filter.getBuiltAt())
+                .userId(FilterStatus.from(filter.getUserIdFilter()))
+                .userEmail(FilterStatus.from(filter.getEmailFilter()))
+                .build();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class FilterStatus {
+
+        private long insertCount; // 추가된 값 수
+        private long bitSize; // 전체 비트 수
+        private int hashCount; // 해시 함수 수
+        private double fillRatio; // 1인 비트 비율
+        private double expectedFpp; // 현재 채워진 비율 기준 예상 오탐률
+
+        public static FilterStatus from(BloomFilter filter) {
+            return FilterStatus.builder()
+                .insertCount(filter.getInsertCount())
+                .bitSize(filter.getBitSize())
+                .hashCount(filter.getHashCount())
+                .fillRatio(filter.getFillRatio())
+                .expectedFpp(filter.getExpectedFpp())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.hwansol.moviego.member.dto;
+
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.model.OAuthProvider;
+import com.hwansol.moviego.member.model.Role;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원 캐시에 저장하는 조회 전용 dto (비밀번호 해시는 캐시에 저장하지 않음)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class MemberCacheDto {
+
+    private Long id;
+    private String userId;
+    private String userEmail;
+    private Role role;
+    private OAuthProvider oauthProvider;
+    private LocalDateTime createdAt;
+
+    public static MemberCacheDto from(Member member) {
+        return MemberCacheDto.builder()
+            .id(member.getId())
+            .userId(member.getUserId())
+            .userEmail(member.getUserEmail())
+            .role(member.getRole())
+            .oauthProvider(member.getOAuthProvider())
+            .createdAt(member.getCreatedAt())
+            .build();
+    }
+
+    /**
+     * 인증 객체 생성용 회원 엔티티로 변환한다. 영속 상태가 아니므로 저장에 사용하면 안 된다.
+     *
+     * @return 비밀번호가 없는 회원 엔티티
+     */
+    public Member toMember() {
+        return Member.builder()
+            .id(id)
+            .userId(userId)
+            .userEmail(userEmail)
+            .role(role)
+            .oAuthProvider(oauthProvider)
+            .build();
+    }
+}
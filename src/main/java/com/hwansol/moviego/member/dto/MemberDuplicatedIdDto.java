@@ -0,0 +1,30 @@
+package com.hwansol.moviego.member.dto;
+
+import com.hwansol.moviego.member.exception.DuplicatedIdException;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아이디 중복 시 응답 dto
+public class MemberDuplicatedIdDto {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Response {
+
+        private String message;
+        private List<String> suggestions; // 사용 가능한 아이디 후보
+
+        public static MemberDuplicatedIdDto.Response from(DuplicatedIdException e) {
+            return Response.builder()
+                .message(e.getMessage())
+                .suggestions(e.getSuggestions())
+                .build();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.hwansol.moviego.member.dto;
 
-import com.hwansol.moviego.member.model.Member;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.AccessLevel;
@@ -31,9 +30,9 @@ public class MemberFindIdDto {
 
         private String userEmail;
 
-        public static MemberFindIdDto.Response from(Member member) {
+        public static MemberFindIdDto.Response from(String userEmail) {
             return Response.builder()
-                .userEmail(member.getUserEmail())
+                .userEmail(userEmail)
                 .build();
         }
     }
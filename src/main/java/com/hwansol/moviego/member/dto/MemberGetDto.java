@@ -2,7 +2,6 @@ package com.hwansol.moviego.member.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
-import com.hwansol.moviego.member.model.Member;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import java.time.LocalDateTime;
@@ -32,7 +31,7 @@ public class MemberGetDto {
         @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
         private LocalDateTime createdAt;
 
-        public static MemberGetDto.Response from(Member member) {
+        public static MemberGetDto.Response from(MemberCacheDto member) {
             return Response.builder()
                 .userId(member.getUserId())
                 .userEmail(member.getUserEmail())
@@ -0,0 +1,90 @@
+package com.hwansol.moviego.member.dto;
+
+import com.hwansol.moviego.member.exception.MemberErrorCode;
+import com.hwansol.moviego.member.exception.MemberException;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+// 회원 가져오기 관련 dto
+public class MemberImportDto {
+
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = "application/x-ndjson";
+
+    // 회원 가져오기, 내보내기 파일 형식
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        CSV(MemberImportDto.CSV, "csv"),
+        NDJSON(MemberImportDto.NDJSON, "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        public static Format from(String contentType) {
+            if (contentType != null) {
+                MediaType mediaType = MediaType.parseMediaType(contentType);
+                for (Format format : values()) {
+                    if (mediaType.isCompatibleWith(MediaType.parseMediaType(format.contentType))) {
+                        return format;
+                    }
+                }
+            }
+
+            throw new MemberException(MemberErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+        }
+    }
+
+    // 가져올 회원 한 줄 (아이디, 이메일은 회원가입과 같은 규칙, 비밀번호는 bcrypt로 암호화된 값)
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Row {
+
+        @NotBlank(message = "아이디를 입력해주세요.")
+        @Pattern(regexp = "^[a-zA-Z][a-zA-Z0-9]*$", message = "아이디는 영문 또는 영문 + 숫자 조합으로 작성해야 합니다.")
+        private String userId;
+
+        @NotBlank(message = "이메일을 입력해주세요.")
+        @Pattern(regexp = "^[a-zA-Z0-9+-_.]+@[a-zA-Z0-9-]+\\.[a-zA-Z0-9-.]+$", message = "올바른 이메일 형식을 입력해주세요.")
+        private String userEmail;
+
+        @NotBlank(message = "비밀번호를 입력해주세요.")
+        @Pattern(regexp = "^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$", message = "비밀번호는 bcrypt로 암호화된 값이어야 합니다.")
+        private String userPw;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class RowError {
+
+        private long line; // 파일의 줄 번호 (1부터 시작)
+        private String userId;
+        private List<String> messages;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Builder
+    public static class Response {
+
+        private boolean completed; // 파일 끝까지 처리했는지 여부
+        private long startLine; // 이 줄 번호 이후부터 처리
+        private long checkpoint; // 저장이 끝난 마지막 줄 번호 (중단된 경우 startLine으로 다시 요청)
+        private long importedCount; // 저장한 회원 수
+        private long failedCount; // 저장하지 못한 줄 수
+        private List<RowError> errors; // 저장하지 못한 줄 (최대 1000개)
+    }
+}
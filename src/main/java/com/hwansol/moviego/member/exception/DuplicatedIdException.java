@@ -0,0 +1,16 @@
+package com.hwansol.moviego.member.exception;
+
+import java.util.List;
+import lombok.Getter;
+
+// 사용 중인 아이디인 경우 사용 가능한 아이디 후보와 함께 던지는 예외
+@Getter
+public class DuplicatedIdException extends MemberException {
+
+    private final List<String> suggestions;
+
+    public DuplicatedIdException(List<String> suggestions) {
+        super(MemberErrorCode.DUPLICATED_ID);
+        this.suggestions = suggestions;
+    }
+}
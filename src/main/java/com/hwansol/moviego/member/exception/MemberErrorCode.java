@@ -17,7 +17,10 @@ public enum MemberErrorCode {
     WRONG_AUTH_NUM(HttpStatus.BAD_REQUEST.value(), "올바른 인증번호가 아닙니다."),
     DUPLICATED_EMAIL(HttpStatus.BAD_REQUEST.value(), "이미 사용중인 이메일입니다."),
     DUPLICATED_ID(HttpStatus.BAD_REQUEST.value(), "이미 사용중인 아이디입니다."),
-    NOT_FOUND_MEMBER(HttpStatus.BAD_REQUEST.value(), "존재하지 않는 회원입니다.");
+    NOT_FOUND_MEMBER(HttpStatus.BAD_REQUEST.value(), "존재하지 않는 회원입니다."),
+    UNSUPPORTED_IMPORT_FORMAT(HttpStatus.BAD_REQUEST.value(), "회원 가져오기는 text/csv, application/x-ndjson 형식만 지원합니다."),
+    INVALID_IMPORT_HEADER(HttpStatus.BAD_REQUEST.value(), "CSV 파일의 첫 줄은 userId,userEmail,userPw 이어야 합니다."),
+    IMPORT_IN_PROGRESS(HttpStatus.BAD_REQUEST.value(), "이미 진행 중인 회원 가져오기가 있습니다.");
 
     private final int status;
     private final String message;
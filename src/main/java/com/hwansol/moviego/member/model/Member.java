@@ -1,19 +1,22 @@
 package com.hwansol.moviego.member.model;
 
 import com.hwansol.moviego.config.BaseTImeEntity;
+import com.hwansol.moviego.config.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
@@ -22,10 +25,21 @@ import org.hibernate.annotations.SQLRestriction;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder(toBuilder = true)
 @SQLRestriction("del_date IS NULL")
+@DynamicUpdate // 변경된 컬럼만 update
+@Table(indexes = {
+    // 탈퇴하지 않은 회원끼리만 중복 불가 (탈퇴한 회원은 generated column 값이 NULL)
+    @Index(name = "uk_member_active_user_id", columnList = "active_user_id", unique = true),
+    @Index(name = "uk_member_active_user_email", columnList = "active_user_email", unique = true),
+    // 조회 조건(아이디/이메일 + del_date IS NULL)을 인덱스만으로 처리
+    @Index(name = "idx_member_user_id", columnList = "user_id, del_date"),
+    @Index(name = "idx_member_user_email", columnList = "user_email, del_date, o_auth_provider, user_id"),
+    // 보관 기간이 지난 탈퇴 회원을 탈퇴 날짜 순서로 조회 (탈퇴하지 않은 회원은 NULL이라 범위에서 제외)
+    @Index(name = "idx_member_del_date", columnList = "del_date")
+})
 public class Member extends BaseTImeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId // insert 전에 id를 만들어 회원 insert를 묶어서 실행
     private Long id;
 
     @Column(nullable = false)
@@ -48,5 +62,47 @@ public class Member extends BaseTImeEntity {
     @Column
     private LocalDateTime delDate; // 삭제날짜
 
+    // 탈퇴하지 않은 회원의 아이디 (DB에서 계산, unique 인덱스용)
+    @Getter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false,
+        columnDefinition = "varchar(255) generated always as (case when del_date is null then user_id end)")
+    private String activeUserId;
+
+    // 탈퇴하지 않은 회원의 이메일 (DB에서 계산, unique 인덱스용)
+    @Getter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false,
+        columnDefinition = "varchar(255) generated always as (case when del_date is null then user_email end)")
+    private String activeUserEmail;
+
+    @Version
+    private Long version; // 동시에 변경한 경우 나중 변경이 이전 변경을 덮어쓰지 않도록 확인
+
+    /**
+     * 이메일을 변경한다. 트랜잭션이 끝날 때 변경된 컬럼만 update된다.
+     *
+     * @param userEmail 새 이메일
+     */
+    public void changeEmail(String userEmail) {
+        this.userEmail = userEmail;
+    }
+
+    /**
+     * 비밀번호를 변경한다. 트랜잭션이 끝날 때 변경된 컬럼만 update된다.
+     *
+     * @param encodedPw 암호화된 새 비밀번호
+     */
+    public void changePassword(String encodedPw) {
+        this.userPw = encodedPw;
+    }
+
+    /**
+     * 탈퇴 처리한다. 트랜잭션이 끝날 때 변경된 컬럼만 update된다.
+     *
+     * @param delDate 탈퇴 날짜
+     */
+    public void withdraw(LocalDateTime delDate) {
+        this.delDate = delDate;
+    }
+
 
 }
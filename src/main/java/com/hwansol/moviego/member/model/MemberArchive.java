@@ -0,0 +1,56 @@
+package com.hwansol.moviego.member.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 탈퇴 후 보관 기간이 지나 회원 테이블에서 옮겨진 회원. 회원 테이블과 인덱스에는 탈퇴하지 않은 회원만 남도록 옮긴 뒤 삭제한다.
+ * 로그인에 사용할 수 없으므로 비밀번호는 옮기지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_archive", indexes = {
+    @Index(name = "idx_member_archive_user_id", columnList = "user_id"),
+    @Index(name = "idx_member_archive_del_date", columnList = "del_date")
+})
+public class MemberArchive {
+
+    @Id
+    private Long id; // 회원 테이블의 id
+
+    @Column(nullable = false)
+    private String userId; // 회원아이디
+
+    @Column(nullable = false)
+    private String userEmail; // 회원 이메일
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Role role; // 권한
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private OAuthProvider oAuthProvider; // 소셜 로그인 사용자 구분
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 가입 날짜
+
+    @Column(nullable = false)
+    private LocalDateTime modifiedAt; // 마지막 수정 날짜
+
+    @Column(nullable = false)
+    private LocalDateTime delDate; // 삭제날짜
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt; // 옮긴 날짜
+}
@@ -15,9 +15,26 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
     private final Member member;
     private final Map<String, Object> attributes;
 
+    /**
+     * DB 조회 없이 토큰 정보만으로 인증 객체를 생성한다. 아이디와 권한만 담겨 있으므로 회원 전체 정보가 필요한 경우 따로
+     * 조회해야 한다.
+     *
+     * @param userId 회원 아이디
+     * @param role   회원 권한
+     * @return 아이디와 권한만 가진 PrincipalDetails
+     */
+    public static PrincipalDetails of(String userId, Role role) {
+        Member member = Member.builder()
+            .userId(userId)
+            .role(role)
+            .build();
+
+        return new PrincipalDetails(member, Collections.emptyMap());
+    }
+
     @Override
     public String getName() {
-        return null;
+        return member.getUserId();
     }
 
     @Override
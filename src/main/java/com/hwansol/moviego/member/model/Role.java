@@ -1,13 +1,79 @@
 package com.hwansol.moviego.member.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
 public enum Role {
-    ROLE_USER("USER", "회원"); // 일반 회원
+    ROLE_USER("USER", "회원"), // 일반 회원
+    ROLE_ADMIN("ADMIN", "관리자"); // 관리자
 
     private final String name;
     private final String value;
+
+    /**
+     * 토큰에 담긴 권한 문자열로 Role을 찾는다. ("USER", "ROLE_USER" 모두 허용)
+     *
+     * @param role 권한 문자열
+     * @return 일치하는 Role, 없는 경우 null
+     */
+    public static Role from(String role) {
+        for (Role r : values()) {
+            if (r.name().equals(role) || r.getName().equals(role)) {
+                return r;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 토큰에 짧게 담기 위한 비트 값
+     *
+     * @return 권한별 비트 값
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 권한 문자열 목록을 비트마스크로 변환한다. 알 수 없는 권한은 무시한다.
+     *
+     * @param roles 권한 문자열 목록
+     * @return 비트마스크
+     */
+    public static int toMask(Collection<String> roles) {
+        int mask = 0;
+
+        for (String role : roles) {
+            Role r = from(role);
+            if (r != null) {
+                mask |= r.getMask();
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 권한 문자열 목록으로 변환한다.
+     *
+     * @param mask 비트마스크
+     * @return 권한 문자열 목록 (USER 형식)
+     */
+    public static List<String> fromMask(int mask) {
+        List<String> roles = new ArrayList<>(1);
+
+        for (Role r : values()) {
+            if ((mask & r.getMask()) != 0) {
+                roles.add(r.getName());
+            }
+        }
+
+        return List.copyOf(roles);
+    }
 }
@@ -0,0 +1,125 @@
+package com.hwansol.moviego.member.repository;
+
+import com.hwansol.moviego.member.dto.MemberAdminDto;
+import com.hwansol.moviego.member.dto.MemberAdminDto.Condition;
+import com.hwansol.moviego.member.model.OAuthProvider;
+import com.hwansol.moviego.member.model.Role;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 관리자 회원 목록, 내보내기 조회. 탈퇴한 회원도 조회해야 하므로 엔티티의 @SQLRestriction이 적용되지 않는 JDBC로 조회한다.
+ * <p>
+ * id 순서로 마지막 id 이후를 조회(keyset)하므로 OFFSET 없이 PK 범위만 읽고, 내보내기는 fetch size만큼씩 나눠 받는 정방향
+ * cursor로 한 행씩 처리해 회원 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Repository
+public class MemberAdminQueryRepository {
+
+    private static final int FETCH_SIZE = 1000; // cursor로 한 번에 받아오는 행 수
+    private static final String SELECT = "select id, user_id, user_email, role, o_auth_provider,"
+        + " created_at, modified_at, del_date from member";
+
+    private static final RowMapper<MemberAdminDto.Row> ROW_MAPPER = (rs, rowNum) -> toRow(rs);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public MemberAdminQueryRepository(DataSource dataSource) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * cursor 이후 회원을 id 순서로 조회한다.
+     *
+     * @param condition 조회 조건
+     * @param cursor    이전 목록의 마지막 id (처음인 경우 null)
+     * @param limit     최대 조회 수
+     * @return 회원 목록
+     */
+    public List<MemberAdminDto.Row> findPage(Condition condition, Long cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        String where = where(condition, cursor, params);
+
+        return jdbcTemplate.query(SELECT + where + " order by id limit :limit", params, ROW_MAPPER);
+    }
+
+    /**
+     * 조건에 맞는 회원 전체를 id 순서로 한 행씩 읽는다. 트랜잭션 안에서 호출해야 같은 연결로 끝까지 읽는다.
+     *
+     * @param condition 조회 조건
+     * @param consumer  회원 한 행 처리
+     */
+    public void stream(Condition condition, Consumer<MemberAdminDto.Row> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = where(condition, null, params);
+
+        jdbcTemplate.query(SELECT + where + " order by id", params,
+            (RowCallbackHandler) rs -> consumer.accept(toRow(rs)));
+    }
+
+    private String where(Condition condition, Long cursor, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" where 1 = 1");
+
+        if (cursor != null) {
+            where.append(" and id > :cursor");
+            params.addValue("cursor", cursor);
+        }
+        if (condition.getCreatedFrom() != null) {
+            where.append(" and created_at >= :createdFrom");
+            params.addValue("createdFrom", condition.getCreatedFrom());
+        }
+        if (condition.getCreatedTo() != null) {
+            where.append(" and created_at < :createdTo");
+            params.addValue("createdTo", condition.getCreatedTo());
+        }
+        if (condition.getProvider() != null) {
+            OAuthProvider provider = condition.getProvider().toOAuthProvider();
+            if (provider == null) {
+                where.append(" and o_auth_provider is null");
+            } else {
+                where.append(" and o_auth_provider = :provider");
+                params.addValue("provider", provider.name());
+            }
+        }
+        switch (condition.getDeletion()) {
+            case ACTIVE -> where.append(" and del_date is null");
+            case DELETED -> where.append(" and del_date is not null");
+            case ALL -> {
+            }
+        }
+
+        return where.toString();
+    }
+
+    private static MemberAdminDto.Row toRow(ResultSet rs) throws SQLException {
+        String provider = rs.getString("o_auth_provider");
+
+        return MemberAdminDto.Row.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getString("user_id"))
+            .userEmail(rs.getString("user_email"))
+            .role(Role.valueOf(rs.getString("role")))
+            .oAuthProvider(provider == null ? null : OAuthProvider.valueOf(provider))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .modifiedAt(toLocalDateTime(rs.getTimestamp("modified_at")))
+            .delDate(toLocalDateTime(rs.getTimestamp("del_date")))
+            .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,100 @@
+package com.hwansol.moviego.member.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 탈퇴한 회원 보관 테이블(member_archive)로 옮기기. 탈퇴한 회원은 엔티티의 @SQLRestriction으로 조회되지 않으므로 JDBC로
+ * 처리한다.
+ * <p>
+ * 옮길 회원은 (del_date, id) 순서로 마지막으로 처리한 회원 이후부터 조회(keyset)해 이미 삭제된 행을 다시 읽지 않는다.
+ */
+@Repository
+public class MemberArchiveRepository {
+
+    private static final String COLUMNS =
+        "id, user_id, user_email, role, o_auth_provider, created_at, modified_at, del_date";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public MemberArchiveRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * 탈퇴 날짜가 기준 이전인 회원을 (del_date, id) 순서로 조회한다.
+     *
+     * @param cutoff 탈퇴 날짜 기준 (미포함)
+     * @param after  마지막으로 처리한 회원 (처음인 경우 null)
+     * @param limit  최대 조회 수
+     * @return 옮길 회원
+     */
+    public List<Target> findTargets(LocalDateTime cutoff, Target after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("cutoff", cutoff)
+            .addValue("limit", limit);
+        String keyset = "";
+
+        if (after != null) {
+            keyset = " and (del_date > :lastDelDate or (del_date = :lastDelDate and id > :lastId))";
+            params.addValue("lastDelDate", after.delDate())
+                .addValue("lastId", after.id());
+        }
+
+        return jdbcTemplate.query("select id, del_date from member where del_date < :cutoff"
+                + keyset + " order by del_date, id limit :limit", params,
+            (rs, rowNum) -> new Target(rs.getLong("id"),
+                rs.getTimestamp("del_date").toLocalDateTime()));
+    }
+
+    /**
+     * 회원을 보관 테이블로 복사한다. 같은 트랜잭션에서 {@link #delete}를 호출해야 한다.
+     *
+     * @param ids        회원 id
+     * @param archivedAt 옮긴 날짜
+     * @return 복사한 회원 수
+     */
+    public int copy(Collection<Long> ids, LocalDateTime archivedAt) {
+        return jdbcTemplate.update("insert into member_archive (" + COLUMNS + ", archived_at)"
+            + " select " + COLUMNS + ", :archivedAt from member"
+            + " where id in (:ids) and del_date is not null", new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("archivedAt", archivedAt));
+    }
+
+    /**
+     * 탈퇴한 회원을 회원 테이블에서 삭제한다.
+     *
+     * @param ids 회원 id
+     * @return 삭제한 회원 수
+     */
+    public int delete(Collection<Long> ids) {
+        return jdbcTemplate.update("delete from member where id in (:ids) and del_date is not null",
+            Map.of("ids", ids));
+    }
+
+    /**
+     * 회원 테이블에 남아 있는 탈퇴 회원 중 가장 오래된 탈퇴 날짜를 조회한다.
+     *
+     * @return 가장 오래된 탈퇴 날짜 (탈퇴한 회원이 없는 경우 null)
+     */
+    public LocalDateTime findOldestDelDate() {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+            "select min(del_date) from member where del_date is not null", Map.of(),
+            Timestamp.class);
+
+        return oldest == null ? null : oldest.toLocalDateTime();
+    }
+
+    // 옮길 회원 (keyset 조회 위치)
+    public record Target(long id, LocalDateTime delDate) {
+
+    }
+}
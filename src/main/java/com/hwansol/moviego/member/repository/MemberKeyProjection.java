@@ -0,0 +1,9 @@
+package com.hwansol.moviego.member.repository;
+
+// 회원 아이디, 이메일만 조회하는 projection
+public interface MemberKeyProjection {
+
+    String getUserId();
+
+    String getUserEmail();
+}
@@ -0,0 +1,9 @@
+package com.hwansol.moviego.member.repository;
+
+import com.hwansol.moviego.member.model.OAuthProvider;
+
+// 회원 소셜 로그인 구분만 조회하는 projection (조회 결과가 있으면 사용 중인 값)
+public interface MemberProviderProjection {
+
+    OAuthProvider getProvider();
+}
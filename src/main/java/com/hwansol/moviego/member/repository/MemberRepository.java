@@ -1,8 +1,17 @@
 package com.hwansol.moviego.member.repository;
 
+import com.hwansol.moviego.member.dto.MemberCacheDto;
 import com.hwansol.moviego.member.model.Member;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,7 +21,40 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByUserEmail(String userEmail);
 
+    // 회원 조회 캐시용 컬럼만 조회 (엔티티를 만들지 않아 영속성 컨텍스트에 저장되지 않음)
+    @Query("select new com.hwansol.moviego.member.dto.MemberCacheDto(m.id, m.userId, m.userEmail,"
+        + " m.role, m.oAuthProvider, m.createdAt) from Member m where m.userId = :userId")
+    Optional<MemberCacheDto> findCacheDtoByUserId(@Param("userId") String userId);
+
+    // 아이디 찾기용 컬럼만 조회
+    @Query("select m.userId as userId, m.oAuthProvider as provider from Member m"
+        + " where m.userEmail = :userEmail")
+    Optional<MemberUserIdProjection> findUserIdByUserEmail(@Param("userEmail") String userEmail);
+
     boolean existsByUserId(String userId);
 
     boolean existsByUserEmail(String userEmail);
+
+    // 이메일 사용 여부와 소셜 로그인 구분을 한 번에 조회
+    @Query("select m.oAuthProvider as provider from Member m where m.userEmail = :userEmail")
+    Optional<MemberProviderProjection> findProviderByUserEmail(
+        @Param("userEmail") String userEmail);
+
+    // 목록 중 사용 중인 아이디 조회
+    @Query("select m.userId from Member m where m.userId in :userIds")
+    List<String> findUserIdsIn(@Param("userIds") Collection<String> userIds);
+
+    // 목록 중 사용 중인 이메일 조회
+    @Query("select m.userEmail from Member m where m.userEmail in :userEmails")
+    List<String> findUserEmailsIn(@Param("userEmails") Collection<String> userEmails);
+
+    // 전체 회원의 아이디, 이메일을 나눠서 조회 (트랜잭션 안에서 사용 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.userId as userId, m.userEmail as userEmail from Member m")
+    Stream<MemberKeyProjection> streamAllKeys();
+
+    // 전체 회원의 아이디를 나눠서 조회 (트랜잭션 안에서 사용 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.userId from Member m")
+    Stream<String> streamAllUserIds();
 }
@@ -0,0 +1,11 @@
+package com.hwansol.moviego.member.repository;
+
+import com.hwansol.moviego.member.model.OAuthProvider;
+
+// 회원 아이디와 소셜 로그인 구분만 조회하는 projection
+public interface MemberUserIdProjection {
+
+    String getUserId();
+
+    OAuthProvider getProvider();
+}
@@ -0,0 +1,125 @@
+package com.hwansol.moviego.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.dto.MemberAdminDto;
+import com.hwansol.moviego.member.dto.MemberAdminDto.Condition;
+import com.hwansol.moviego.member.dto.MemberImportDto.Format;
+import com.hwansol.moviego.member.repository.MemberAdminQueryRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 관리자 회원 목록 조회, 내보내기 서비스. 읽기 전용 트랜잭션으로 조회하므로 복제 DB를 설정한 경우 복제 DB에서 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberAdminService {
+
+    private static final String CSV_HEADER =
+        "id,userId,userEmail,role,oAuthProvider,createdAt,modifiedAt,delDate";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(
+        "yyyy-MM-dd HH:mm:ss");
+
+    private final MemberAdminQueryRepository memberAdminQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.member.admin.max-page-size:1000}")
+    private int maxPageSize; // 목록 한 번에 조회하는 최대 회원 수
+
+    /**
+     * 회원 목록을 id 순서로 조회한다.
+     *
+     * @param condition 조회 조건
+     * @param cursor    이전 목록의 nextCursor (처음인 경우 null)
+     * @param size      조회 수 (최대 spring.member.admin.max-page-size)
+     * @return 회원 목록과 다음 목록 cursor
+     */
+    @Transactional(readOnly = true)
+    public MemberAdminDto.Page getMembers(Condition condition, Long cursor, int size) {
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+
+        // 한 개 더 조회해 다음 목록이 있는지 확인
+        List<MemberAdminDto.Row> rows = memberAdminQueryRepository.findPage(condition, cursor,
+            limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<MemberAdminDto.Row> members = hasNext ? rows.subList(0, limit) : rows;
+
+        return MemberAdminDto.Page.builder()
+            .members(members)
+            .nextCursor(hasNext ? members.get(limit - 1).getId() : null)
+            .build();
+    }
+
+    /**
+     * 조건에 맞는 회원 전체를 id 순서로 내보낸다. 한 행씩 읽어 바로 쓰므로 회원 수와 관계없이 메모리 사용량이 일정하다.
+     *
+     * @param condition    조회 조건
+     * @param format       내보낼 형식 (CSV인 경우 첫 줄은 컬럼명)
+     * @param outputStream 내보낼 곳
+     */
+    @Transactional(readOnly = true)
+    public void exportMembers(Condition condition, Format format, OutputStream outputStream)
+        throws IOException {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long[] count = new long[1];
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            memberAdminQueryRepository.stream(condition, row -> {
+                try {
+                    writer.write(format == Format.CSV ? toCsv(row)
+                        : objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) { // 내려받는 중 연결이 끊긴 경우 등
+            log.warn("회원 내보내기 중단 내보낸 회원 수 = {}, 원인 = {}", count[0], e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("회원 내보내기 완료 내보낸 회원 수 = {}", count[0]);
+    }
+
+    private String toCsv(MemberAdminDto.Row row) {
+        return String.join(",", String.valueOf(row.getId()), csv(row.getUserId()),
+            csv(row.getUserEmail()), csv(row.getRole()), csv(row.getOAuthProvider()),
+            csv(row.getCreatedAt()), csv(row.getModifiedAt()), csv(row.getDelDate()));
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value instanceof LocalDateTime dateTime ? DATE_TIME_FORMATTER.format(dateTime)
+            : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+            return text;
+        }
+
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+}
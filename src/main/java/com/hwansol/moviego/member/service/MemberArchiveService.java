@@ -0,0 +1,179 @@
+package com.hwansol.moviego.member.service;
+
+import com.hwansol.moviego.member.dto.MemberArchiveDto;
+import com.hwansol.moviego.member.repository.MemberArchiveRepository;
+import com.hwansol.moviego.member.repository.MemberArchiveRepository.Target;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 탈퇴 회원 보관 작업. 탈퇴 후 보관 기간이 지난 회원을 보관 테이블로 옮기고 회원 테이블에서 삭제해 회원 테이블과 인덱스에는
+ * 탈퇴하지 않은 회원만 남긴다.
+ * <p>
+ * 짧은 트랜잭션으로 chunk씩 옮기고 chunk 사이에 쉬어 잠금을 오래 잡거나 binlog가 한 번에 커지지 않게 한다. 여러 서버 중 한
+ * 서버에서만 작업하도록 redis 잠금을 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberArchiveService {
+
+    private static final String LOCK_KEY = "memberArchive:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10); // chunk마다 연장
+
+    private final MemberArchiveRepository memberArchiveRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalArchivedCount = new AtomicLong();
+
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile long lastArchivedCount;
+
+    @Value("${spring.member.archive.retention-days:30}")
+    private int retentionDays; // 탈퇴 후 회원 테이블에 남겨두는 기간
+
+    @Value("${spring.member.archive.chunk-size:500}")
+    private int chunkSize; // 한 트랜잭션에서 옮기는 회원 수
+
+    @Value("${spring.member.archive.throttle-millis:200}")
+    private long throttleMillis; // chunk 사이에 쉬는 시간
+
+    /**
+     * 보관 기간이 지난 탈퇴 회원을 모두 옮긴다. 다른 서버에서 작업 중인 경우 작업하지 않는다.
+     */
+    @Scheduled(cron = "${spring.member.archive.cron:0 0 4 * * *}")
+    public void archiveDeletedMembers() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        String lockValue = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockValue, LOCK_TTL))) {
+                log.info("다른 서버에서 탈퇴 회원 보관 작업 중");
+                return;
+            }
+
+            try {
+                archive();
+            } finally {
+                unlock(lockValue);
+            }
+        } catch (DataAccessException | IllegalStateException e) { // 다음 작업에서 이어서 옮긴다
+            log.error("탈퇴 회원 보관 작업 실패 = {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 보관 작업 상태를 조회한다.
+     *
+     * @return 이 서버의 마지막 작업 결과와 회원 테이블에 남은 탈퇴 회원의 지연 시간
+     */
+    @Transactional(readOnly = true)
+    public MemberArchiveDto.Response getStatus() {
+        LocalDateTime oldestDelDate = memberArchiveRepository.findOldestDelDate();
+        long lagSeconds = oldestDelDate == null ? 0 : Math.max(0,
+            Duration.between(oldestDelDate, cutoff()).toSeconds());
+
+        return MemberArchiveDto.Response.builder()
+            .running(running.get())
+            .lastStartedAt(lastStartedAt)
+            .lastFinishedAt(lastFinishedAt)
+            .lastArchivedCount(lastArchivedCount)
+            .totalArchivedCount(totalArchivedCount.get())
+            .oldestDelDate(oldestDelDate)
+            .lagSeconds(lagSeconds)
+            .build();
+    }
+
+    private void archive() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime cutoff = cutoff(); // 작업 중 기준이 바뀌지 않도록 시작할 때 고정
+        long archivedCount = 0;
+        Target last = null;
+
+        lastStartedAt = LocalDateTime.now();
+        lastArchivedCount = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            Target after = last;
+            List<Target> targets = transactionTemplate.execute(status -> {
+                List<Target> chunk = memberArchiveRepository.findTargets(cutoff, after, chunkSize);
+                if (!chunk.isEmpty()) {
+                    List<Long> ids = chunk.stream().map(Target::id).toList();
+                    int copied = memberArchiveRepository.copy(ids, LocalDateTime.now());
+                    int deleted = memberArchiveRepository.delete(ids);
+
+                    if (copied != deleted) { // 옮기지 못한 회원이 삭제되지 않도록 되돌림
+                        throw new IllegalStateException(
+                            "보관한 회원 수와 삭제한 회원 수가 다릅니다. copied = " + copied
+                                + ", deleted = " + deleted);
+                    }
+                }
+
+                return chunk;
+            });
+
+            if (targets == null || targets.isEmpty()) {
+                break;
+            }
+
+            archivedCount += targets.size();
+            lastArchivedCount = archivedCount;
+            totalArchivedCount.addAndGet(targets.size());
+            last = targets.get(targets.size() - 1);
+
+            if (targets.size() < chunkSize) {
+                break;
+            }
+
+            redisTemplate.expire(LOCK_KEY, LOCK_TTL);
+            sleep();
+        }
+
+        lastFinishedAt = LocalDateTime.now();
+        log.info("탈퇴 회원 보관 완료 옮긴 회원 수 = {}, 기준 = {}", archivedCount, cutoff);
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    private void sleep() {
+        if (throttleMillis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(throttleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 서버 종료 시 다음 chunk부터 중단
+        }
+    }
+
+    // 다른 서버가 잡은 잠금은 해제하지 않는다 (작업이 잠금 유지 시간보다 오래 걸린 경우)
+    private void unlock(String lockValue) {
+        if (lockValue.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+}
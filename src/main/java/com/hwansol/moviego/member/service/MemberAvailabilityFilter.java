@@ -0,0 +1,189 @@
+package com.hwansol.moviego.member.service;
+
+import com.hwansol.moviego.config.BloomFilter;
+import com.hwansol.moviego.member.repository.MemberKeyProjection;
+import com.hwansol.moviego.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아이디, 이메일 사용 여부 블룸 필터. 필터에 없는 값은 DB 조회 없이 사용 가능하다고 판단하고, 있을 수도 있는 값만 DB에서
+ * 확인한다.
+ * <p>
+ * 서버 시작 시 회원 테이블 전체를 나눠서 읽어 만들고, 회원가입/이메일 변경/카카오 회원가입 시 추가한다. 추가된 값은
+ * pub/sub으로 다른 서버에도 전파된다. 필터가 만들어지기 전에는 항상 DB에서 확인한다.
+ * <p>
+ * DB는 대소문자를 구분하지 않고 비교하므로 필터에는 소문자로 변환한 값을 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberAvailabilityFilter implements MessageListener {
+
+    private static final String AVAILABILITY_CHANNEL = "memberAvailability";
+    private static final String USER_ID_PREFIX = "id:";
+    private static final String EMAIL_PREFIX = "email:";
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${spring.cache.member.availability-filter.expected-insertions:1000000}")
+    private long expectedInsertions; // 예상 회원 수
+
+    @Value("${spring.cache.member.availability-filter.fpp:0.01}")
+    private double fpp; // 목표 오탐률
+
+    @Getter
+    private volatile BloomFilter userIdFilter;
+
+    @Getter
+    private volatile BloomFilter emailFilter;
+
+    @Getter
+    private volatile boolean ready; // 전체 회원으로 필터를 만든 이후 true
+
+    @Getter
+    private volatile long builtAt; // 필터를 마지막으로 만든 시간 (epoch millis)
+
+    // 다시 만드는 중인 필터 (만드는 동안 추가된 값도 빠지지 않도록 함께 추가)
+    private volatile BloomFilter buildingUserIdFilter;
+    private volatile BloomFilter buildingEmailFilter;
+
+    @PostConstruct
+    void init() {
+        userIdFilter = new BloomFilter(expectedInsertions, fpp);
+        emailFilter = new BloomFilter(expectedInsertions, fpp);
+
+        redisMessageListenerContainer.addMessageListener(this,
+            new ChannelTopic(AVAILABILITY_CHANNEL));
+    }
+
+    /**
+     * 회원 테이블 전체를 읽어 필터를 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        BloomFilter newUserIdFilter = new BloomFilter(expectedInsertions, fpp);
+        BloomFilter newEmailFilter = new BloomFilter(expectedInsertions, fpp);
+        buildingUserIdFilter = newUserIdFilter;
+        buildingEmailFilter = newEmailFilter;
+
+        try (Stream<MemberKeyProjection> keys = memberRepository.streamAllKeys()) {
+            keys.forEach(key -> {
+                newUserIdFilter.put(normalize(key.getUserId()));
+                newEmailFilter.put(normalize(key.getUserEmail()));
+            });
+
+            userIdFilter = newUserIdFilter;
+            emailFilter = newEmailFilter;
+            builtAt = System.currentTimeMillis();
+            ready = true;
+
+            log.info("아이디, 이메일 필터 생성 완료 회원 수 = {}, 예상 오탐률 = {}",
+                newUserIdFilter.getInsertCount(), newUserIdFilter.getExpectedFpp());
+        } catch (DataAccessException e) {
+            log.error("아이디, 이메일 필터 생성 실패 = {}", e.getMessage());
+        } finally {
+            buildingUserIdFilter = null;
+            buildingEmailFilter = null;
+        }
+    }
+
+    /**
+     * 사용 중일 수도 있는 아이디인지 확인한다.
+     *
+     * @param userId 회원 아이디
+     * @return 확실히 사용 중이 아닌 경우 false, DB 확인이 필요한 경우 true
+     */
+    public boolean mightContainUserId(String userId) {
+        return !ready || userIdFilter.mightContain(normalize(userId));
+    }
+
+    /**
+     * 사용 중일 수도 있는 이메일인지 확인한다.
+     *
+     * @param userEmail 회원 이메일
+     * @return 확실히 사용 중이 아닌 경우 false, DB 확인이 필요한 경우 true
+     */
+    public boolean mightContainEmail(String userEmail) {
+        return !ready || emailFilter.mightContain(normalize(userEmail));
+    }
+
+    /**
+     * 새로 사용된 아이디, 이메일을 추가하고 다른 서버에도 알린다.
+     *
+     * @param userId    회원 아이디 (없는 경우 null)
+     * @param userEmail 회원 이메일 (없는 경우 null)
+     */
+    public void put(String userId, String userEmail) {
+        if (userId != null) {
+            putUserId(userId);
+            publish(USER_ID_PREFIX + userId);
+        }
+
+        if (userEmail != null) {
+            putEmail(userEmail);
+            publish(EMAIL_PREFIX + userEmail);
+        }
+    }
+
+    // 다른 서버에서 추가된 아이디, 이메일 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (key.startsWith(USER_ID_PREFIX)) {
+            putUserId(key.substring(USER_ID_PREFIX.length()));
+        } else if (key.startsWith(EMAIL_PREFIX)) {
+            putEmail(key.substring(EMAIL_PREFIX.length()));
+        }
+    }
+
+    private void putUserId(String userId) {
+        BloomFilter building = buildingUserIdFilter; // 교체 중에 추가된 값이 빠지지 않도록 먼저 확인
+        userIdFilter.put(normalize(userId));
+
+        if (building != null) {
+            building.put(normalize(userId));
+        }
+    }
+
+    private void putEmail(String userEmail) {
+        BloomFilter building = buildingEmailFilter; // 교체 중에 추가된 값이 빠지지 않도록 먼저 확인
+        emailFilter.put(normalize(userEmail));
+
+        if (building != null) {
+            building.put(normalize(userEmail));
+        }
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(AVAILABILITY_CHANNEL, key);
+        } catch (DataAccessException e) {
+            log.error("아이디, 이메일 필터 추가 알림 실패 = {}", e.getMessage());
+        }
+    }
+}
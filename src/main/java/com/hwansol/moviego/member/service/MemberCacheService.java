@@ -0,0 +1,150 @@
+package com.hwansol.moviego.member.service;
+
+import com.hwansol.moviego.config.DataSourceRouting;
+import com.hwansol.moviego.config.LocalCacheEviction;
+import com.hwansol.moviego.member.dto.MemberCacheDto;
+import com.hwansol.moviego.member.exception.MemberErrorCode;
+import com.hwansol.moviego.member.exception.MemberException;
+import com.hwansol.moviego.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 회원 조회 캐시 (서버 내부 L1 + redis L2, 변경 시 pub/sub으로 모든 서버의 L1 삭제)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberCacheService implements MessageListener {
+
+    public static final String MEMBER_CACHE = "member";
+    private static final String MEMBER_CACHE_CHANNEL = "memberCache";
+
+    private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MemberRecentWrites memberRecentWrites;
+    private final Map<String, CachedMember> localCache = new ConcurrentHashMap<>();
+
+    @Value("${spring.cache.member.local-cache-millis:5000}")
+    private long localCacheMillis; // 서버 내부 캐시 유지 시간
+
+    @Value("${spring.cache.member.local-cache-max-size:10000}")
+    private int localCacheMaxSize; // 서버 내부 캐시 최대 개수
+
+    private Cache redisCache;
+
+    @PostConstruct
+    void init() {
+        redisCache = cacheManager.getCache(MEMBER_CACHE);
+        redisMessageListenerContainer.addMessageListener(this,
+            new ChannelTopic(MEMBER_CACHE_CHANNEL));
+    }
+
+    /**
+     * 회원 정보를 조회한다. 서버 내부 캐시 -> redis -> DB 순서로 조회하고, DB에서 조회한 경우 두 캐시에 저장한다.
+     *
+     * @param userId 회원 아이디
+     * @return 회원 정보
+     */
+    public MemberCacheDto getMember(String userId) {
+        long now = System.currentTimeMillis();
+        CachedMember cached = localCache.get(userId);
+
+        if (cached != null && cached.expiredAt() > now) {
+            return cached.member();
+        }
+
+        MemberCacheDto member = getFromRedis(userId);
+
+        if (member == null) {
+            // 방금 변경된 회원은 복제 DB의 이전 값이 캐시에 저장되지 않도록 주 DB에서 조회
+            member = DataSourceRouting.onPrimaryIf(memberRecentWrites.isRecentUserId(userId),
+                    () -> memberRepository.findCacheDtoByUserId(userId))
+                .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+            putToRedis(userId, member);
+        }
+
+        // 가득 찬 경우 전체를 비우지 않고 만료된(없으면 가장 먼저 만료되는) 항목만 제거
+        if (LocalCacheEviction.makeRoom(localCache, localCacheMaxSize, CachedMember::expiredAt,
+            now)) {
+            localCache.put(userId, new CachedMember(member, now + localCacheMillis));
+        }
+
+        return member;
+    }
+
+    /**
+     * 회원 정보 캐시를 삭제한다. 트랜잭션 안에서 호출한 경우 커밋 이후에 한 번 더 삭제해, 커밋 전에 다른 요청이 이전 값을 다시
+     * 캐시에 저장하는 경우를 막는다.
+     *
+     * @param userId 회원 아이디
+     */
+    public void evict(String userId) {
+        evictAll(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictAll(userId);
+                    }
+                });
+        }
+    }
+
+    // 다른 서버에서 변경된 회원 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.remove(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictAll(String userId) {
+        localCache.remove(userId);
+
+        try {
+            redisCache.evict(userId);
+            redisTemplate.convertAndSend(MEMBER_CACHE_CHANNEL, userId);
+        } catch (DataAccessException e) {
+            log.error("회원 캐시 삭제 실패 = {}", e.getMessage());
+        }
+    }
+
+    // redis 장애 시에는 DB에서 조회
+    private MemberCacheDto getFromRedis(String userId) {
+        try {
+            return redisCache.get(userId, MemberCacheDto.class);
+        } catch (RuntimeException e) {
+            log.error("회원 캐시 조회 실패 = {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRedis(String userId, MemberCacheDto member) {
+        try {
+            redisCache.put(userId, member);
+        } catch (RuntimeException e) {
+            log.error("회원 캐시 저장 실패 = {}", e.getMessage());
+        }
+    }
+
+    private record CachedMember(MemberCacheDto member, long expiredAt) {
+
+    }
+}
@@ -1,10 +1,7 @@
 package com.hwansol.moviego.member.service;
 
-import com.hwansol.moviego.member.exception.MemberErrorCode;
-import com.hwansol.moviego.member.exception.MemberException;
 import com.hwansol.moviego.member.model.Member;
 import com.hwansol.moviego.member.model.PrincipalDetails;
-import com.hwansol.moviego.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,12 +12,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MemberDetailsService implements UserDetailsService {
 
-    private final MemberRepository memberRepository;
+    private final MemberCacheService memberCacheService;
 
     @Override
     public UserDetails loadUserByUsername(String memberId) throws UsernameNotFoundException {
-        Member member = memberRepository.findByUserId(memberId)
-            .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+        Member member = memberCacheService.getMember(memberId).toMember();
 
         return new PrincipalDetails(member, null);
     }
@@ -0,0 +1,204 @@
+package com.hwansol.moviego.member.service;
+
+import com.hwansol.moviego.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용 중인 아이디 정렬 인덱스. 이미 사용 중인 아이디로 가입하려는 경우 사용 가능한 아이디 후보를 만든다.
+ * <p>
+ * 서버 시작 시 회원 테이블 전체를 나눠서 읽어 만들고, 회원가입/카카오 회원가입 시 추가, 회원 탈퇴 시 제거한다. 변경 내용은
+ * pub/sub으로 다른 서버에도 전파된다. 인덱스는 후보를 고르는 용도이고, 최종 사용 가능 여부는 DB에서 확인한다.
+ * <p>
+ * DB는 대소문자를 구분하지 않고 비교하므로 소문자로 변환한 값을 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberIdIndex implements MessageListener {
+
+    private static final String INDEX_CHANNEL = "memberIdIndex";
+    private static final String ADD_PREFIX = "add:";
+    private static final String REMOVE_PREFIX = "remove:";
+    private static final int MAX_SEQUENTIAL_ATTEMPTS = 1000; // 숫자를 이어 붙여 확인할 최대 횟수
+    private static final int MAX_RANDOM_ATTEMPTS = 100; // 임의 숫자를 붙여 확인할 최대 횟수
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile NavigableSet<String> userIds = new ConcurrentSkipListSet<>();
+
+    // 다시 만드는 중인 인덱스 (만드는 동안 변경된 값도 빠지지 않도록 함께 반영)
+    private volatile NavigableSet<String> buildingUserIds;
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INDEX_CHANNEL));
+    }
+
+    /**
+     * 회원 테이블 전체를 읽어 인덱스를 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        NavigableSet<String> newUserIds = new ConcurrentSkipListSet<>();
+        buildingUserIds = newUserIds;
+
+        try (Stream<String> ids = memberRepository.streamAllUserIds()) {
+            ids.forEach(userId -> newUserIds.add(normalize(userId)));
+            userIds = newUserIds;
+
+            log.info("아이디 인덱스 생성 완료 아이디 수 = {}", newUserIds.size());
+        } catch (DataAccessException e) {
+            log.error("아이디 인덱스 생성 실패 = {}", e.getMessage());
+        } finally {
+            buildingUserIds = null;
+        }
+    }
+
+    /**
+     * 사용 중이 아닌 아이디 후보를 만든다. 끝의 숫자를 뗀 아이디에 이어지는 숫자를 붙인 후보를 먼저 만들고, 나머지는 임의의
+     * 숫자를 붙여 만든다.
+     *
+     * @param userId 사용 중인 아이디
+     * @param count  후보 수
+     * @return 인덱스에 없는 아이디 후보 (최대 count개)
+     */
+    public List<String> suggest(String userId, int count) {
+        Set<String> suggestions = new LinkedHashSet<>();
+        String base = stripTrailingDigits(userId);
+        long start = base.length() == userId.length() ? 1
+            : parseOrDefault(userId.substring(base.length())) + 1;
+
+        int sequentialCount = (count + 1) / 2;
+        for (int i = 0; i < MAX_SEQUENTIAL_ATTEMPTS && suggestions.size() < sequentialCount; i++) {
+            addIfAvailable(suggestions, base + (start + i));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < MAX_RANDOM_ATTEMPTS && suggestions.size() < count; i++) {
+            addIfAvailable(suggestions, base + random.nextInt(10, 10000));
+        }
+
+        return new ArrayList<>(suggestions);
+    }
+
+    /**
+     * 아이디가 인덱스에 있는지 확인한다.
+     *
+     * @param userId 회원 아이디
+     * @return 있는 경우 true
+     */
+    public boolean contains(String userId) {
+        return userIds.contains(normalize(userId));
+    }
+
+    /**
+     * 새로 사용된 아이디를 추가하고 다른 서버에도 알린다.
+     *
+     * @param userId 회원 아이디
+     */
+    public void add(String userId) {
+        addUserId(userId);
+        publish(ADD_PREFIX + userId);
+    }
+
+    /**
+     * 더 이상 사용되지 않는 아이디를 제거하고 다른 서버에도 알린다.
+     *
+     * @param userId 회원 아이디
+     */
+    public void remove(String userId) {
+        removeUserId(userId);
+        publish(REMOVE_PREFIX + userId);
+    }
+
+    // 다른 서버에서 변경된 아이디 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (key.startsWith(ADD_PREFIX)) {
+            addUserId(key.substring(ADD_PREFIX.length()));
+        } else if (key.startsWith(REMOVE_PREFIX)) {
+            removeUserId(key.substring(REMOVE_PREFIX.length()));
+        }
+    }
+
+    private void addIfAvailable(Set<String> suggestions, String candidate) {
+        if (!contains(candidate)) {
+            suggestions.add(candidate);
+        }
+    }
+
+    private void addUserId(String userId) {
+        NavigableSet<String> building = buildingUserIds; // 교체 중에 추가된 값이 빠지지 않도록 먼저 확인
+        userIds.add(normalize(userId));
+
+        if (building != null) {
+            building.add(normalize(userId));
+        }
+    }
+
+    private void removeUserId(String userId) {
+        NavigableSet<String> building = buildingUserIds;
+        userIds.remove(normalize(userId));
+
+        if (building != null) {
+            building.remove(normalize(userId));
+        }
+    }
+
+    // 아이디는 영문으로 시작하므로 끝의 숫자를 떼도 빈 문자열이 되지 않는다
+    private String stripTrailingDigits(String userId) {
+        int end = userId.length();
+        while (end > 1 && Character.isDigit(userId.charAt(end - 1))) {
+            end--;
+        }
+
+        return userId.substring(0, end);
+    }
+
+    private long parseOrDefault(String digits) {
+        if (digits.length() > 9) { // 너무 긴 숫자는 1부터 이어 붙인다
+            return 0;
+        }
+
+        return Long.parseLong(digits);
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(INDEX_CHANNEL, key);
+        } catch (DataAccessException e) {
+            log.error("아이디 인덱스 변경 알림 실패 = {}", e.getMessage());
+        }
+    }
+}
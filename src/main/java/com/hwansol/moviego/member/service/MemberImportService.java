@@ -0,0 +1,359 @@
+package com.hwansol.moviego.member.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.dto.MemberImportDto;
+import com.hwansol.moviego.member.dto.MemberImportDto.Format;
+import com.hwansol.moviego.member.dto.MemberImportDto.Row;
+import com.hwansol.moviego.member.dto.MemberImportDto.RowError;
+import com.hwansol.moviego.member.exception.MemberErrorCode;
+import com.hwansol.moviego.member.exception.MemberException;
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.model.Role;
+import com.hwansol.moviego.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원 가져오기 서비스. CSV(userId,userEmail,userPw 헤더 필요) 또는 NDJSON 파일을 한 줄씩 읽어 chunk 단위로 중복 확인 후
+ * 한 트랜잭션에서 묶어서 저장한다. 파일 전체를 메모리에 올리지 않으며, chunk 저장이 끝날 때마다 checkpoint(마지막 줄 번호)를
+ * 갱신해 중단된 경우 이어서 가져올 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberImportService {
+
+    private static final String CSV_HEADER = "userId,userEmail,userPw";
+    private static final int MAX_ERRORS = 1000; // 응답에 담는 실패한 줄 최대 개수
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
+    private final MemberIdIndex memberIdIndex;
+    private final MemberNegativeCache memberNegativeCache;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<ImportJob> lastJob = new AtomicReference<>();
+
+    @Value("${spring.member.import.chunk-size:1000}")
+    private int chunkSize; // 한 번에 중복 확인, 저장하는 회원 수
+
+    /**
+     * 회원을 가져온다. 서버마다 한 번에 하나만 진행할 수 있다.
+     *
+     * @param reader    가져올 파일
+     * @param format    파일 형식
+     * @param startLine 이 줄 번호까지는 건너뛴다 (이전 가져오기의 checkpoint, 처음부터인 경우 0)
+     * @return 가져오기 결과
+     */
+    public MemberImportDto.Response importMembers(Reader reader, Format format, long startLine)
+        throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new MemberException(MemberErrorCode.IMPORT_IN_PROGRESS);
+        }
+
+        ImportJob job = new ImportJob(startLine);
+        lastJob.set(job);
+
+        try (BufferedReader lines = new BufferedReader(reader)) {
+            long lineNumber = 0;
+            if (format == Format.CSV) {
+                String header = lines.readLine();
+                lineNumber++;
+                if (header == null || !CSV_HEADER.equals(stripBom(header).trim())) {
+                    throw new MemberException(MemberErrorCode.INVALID_IMPORT_HEADER);
+                }
+            }
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= startLine || line.isBlank()) {
+                    continue;
+                }
+
+                ImportRow row = parse(line, lineNumber, format, job);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                job.lastReadLine = lineNumber;
+
+                if (chunk.size() >= chunkSize) {
+                    saveChunk(chunk, job);
+                    chunk.clear();
+                }
+            }
+
+            saveChunk(chunk, job);
+            job.completed = true;
+
+            log.info("회원 가져오기 완료 저장 = {}, 실패 = {}, checkpoint = {}", job.importedCount,
+                job.failedCount, job.checkpoint);
+
+            return job.toResponse();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 진행 중이거나 마지막으로 진행한 가져오기 상태를 조회한다.
+     *
+     * @return 가져오기 상태 (가져오기를 한 적이 없는 경우 null)
+     */
+    public MemberImportDto.Response getStatus() {
+        ImportJob job = lastJob.get();
+
+        return job == null ? null : job.toResponse();
+    }
+
+    // 한 줄을 읽어 검증 (실패한 경우 오류를 기록하고 null 반환)
+    private ImportRow parse(String line, long lineNumber, Format format, ImportJob job) {
+        Row row;
+        try {
+            row = format == Format.CSV ? parseCsv(line) : objectMapper.readValue(line, Row.class);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            job.fail(lineNumber, null, List.of("형식이 올바르지 않은 줄입니다."));
+            return null;
+        }
+
+        Set<ConstraintViolation<Row>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            job.fail(lineNumber, row.getUserId(), violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList());
+            return null;
+        }
+
+        return new ImportRow(lineNumber, row);
+    }
+
+    // chunk 안의 중복, 이미 사용 중인 아이디/이메일을 제외하고 한 트랜잭션에서 저장
+    private void saveChunk(List<ImportRow> chunk, ImportJob job) {
+        List<ImportRow> rows = excludeDuplicates(chunk, job);
+
+        if (!rows.isEmpty()) {
+            try {
+                persist(rows);
+            } catch (DataIntegrityViolationException e) {
+                // 확인 이후 다른 요청에서 같은 값으로 가입한 경우 한 건씩 다시 저장
+                log.warn("회원 가져오기 chunk 저장 실패, 한 건씩 다시 저장 = {}", e.getMessage());
+                rows = persistOneByOne(rows, job);
+            }
+
+            for (ImportRow row : rows) {
+                Row value = row.value();
+                memberAvailabilityFilter.put(value.getUserId(), value.getUserEmail());
+                memberIdIndex.add(value.getUserId());
+                memberNegativeCache.evict(value.getUserId(), value.getUserEmail());
+            }
+            job.importedCount += rows.size();
+        }
+
+        // 저장이 끝난 줄까지 checkpoint 갱신 (실패한 줄은 오류 목록으로 확인)
+        job.checkpoint = Math.max(job.checkpoint, job.lastReadLine);
+        if (!chunk.isEmpty()) {
+            log.info("회원 가져오기 진행 중 저장 = {}, 실패 = {}, checkpoint = {}", job.importedCount,
+                job.failedCount, job.checkpoint);
+        }
+    }
+
+    private List<ImportRow> excludeDuplicates(List<ImportRow> chunk, ImportJob job) {
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+
+        Set<String> userIds = new HashSet<>();
+        Set<String> userEmails = new HashSet<>();
+        for (ImportRow row : chunk) {
+            userIds.add(row.value().getUserId());
+            userEmails.add(row.value().getUserEmail());
+        }
+
+        // DB는 대소문자를 구분하지 않고 비교하므로 소문자로 비교
+        Set<String> usedIds = toLowerCase(memberRepository.findUserIdsIn(userIds));
+        Set<String> usedEmails = toLowerCase(memberRepository.findUserEmailsIn(userEmails));
+
+        List<ImportRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            String userId = row.value().getUserId();
+            List<String> messages = new ArrayList<>(2);
+
+            if (!usedIds.add(userId.toLowerCase(Locale.ROOT))) { // 이전 줄에서 사용한 값도 함께 추가
+                messages.add(MemberErrorCode.DUPLICATED_ID.getMessage());
+            }
+            if (!usedEmails.add(row.value().getUserEmail().toLowerCase(Locale.ROOT))) {
+                messages.add(MemberErrorCode.DUPLICATED_EMAIL.getMessage());
+            }
+
+            if (messages.isEmpty()) {
+                rows.add(row);
+            } else {
+                job.fail(row.line(), userId, messages);
+            }
+        }
+
+        return rows;
+    }
+
+    // 한 트랜잭션에서 저장 (jdbc batch 설정에 따라 insert를 묶어서 실행)
+    // 요청 동안 유지되는 영속성 컨텍스트(open-in-view)에 저장한 회원이 쌓여 커밋마다 변경 감지하지 않도록, 실패한
+    // 경우에도 비운다 (flush는 repository로 호출해 중복 오류를 DataIntegrityViolationException으로 변환)
+    private void persist(List<ImportRow> rows) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                for (ImportRow row : rows) {
+                    entityManager.persist(toMember(row.value()));
+                }
+                memberRepository.flush();
+            } finally {
+                entityManager.clear();
+            }
+        });
+    }
+
+    private List<ImportRow> persistOneByOne(List<ImportRow> rows, ImportJob job) {
+        List<ImportRow> saved = new ArrayList<>(rows.size());
+
+        for (ImportRow row : rows) {
+            try {
+                persist(List.of(row));
+                saved.add(row);
+            } catch (DataIntegrityViolationException e) {
+                job.fail(row.line(), row.value().getUserId(),
+                    List.of("이미 사용중인 아이디 또는 이메일입니다."));
+            }
+        }
+
+        return saved;
+    }
+
+    private Member toMember(Row row) {
+        return Member.builder()
+            .userId(row.getUserId())
+            .userEmail(row.getUserEmail())
+            .userPw(row.getUserPw())
+            .role(Role.ROLE_USER)
+            .build();
+    }
+
+    // userId,userEmail,userPw 순서의 CSV 한 줄 (큰따옴표로 감싼 값 지원)
+    private Row parseCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        if (quoted || fields.size() != 3) {
+            throw new IllegalArgumentException("CSV 컬럼 수가 올바르지 않습니다.");
+        }
+
+        return new Row(fields.get(0).trim(), fields.get(1).trim(), fields.get(2).trim());
+    }
+
+    private Set<String> toLowerCase(List<String> values) {
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            result.add(value.toLowerCase(Locale.ROOT));
+        }
+
+        return result;
+    }
+
+    private String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    private record ImportRow(long line, Row value) {
+
+    }
+
+    // 가져오기 진행 상태 (가져오는 스레드만 변경하고, 상태 조회는 다른 스레드에서 읽는다)
+    private static final class ImportJob {
+
+        private final long startLine;
+        private final List<RowError> errors = new ArrayList<>();
+        private volatile long checkpoint;
+        private volatile long lastReadLine;
+        private volatile long importedCount;
+        private volatile long failedCount;
+        private volatile boolean completed;
+
+        private ImportJob(long startLine) {
+            this.startLine = startLine;
+            this.checkpoint = startLine;
+        }
+
+        private void fail(long line, String userId, List<String> messages) {
+            failedCount++;
+
+            synchronized (errors) {
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add(RowError.builder()
+                        .line(line)
+                        .userId(userId)
+                        .messages(messages)
+                        .build());
+                }
+            }
+        }
+
+        private MemberImportDto.Response toResponse() {
+            synchronized (errors) {
+                return MemberImportDto.Response.builder()
+                    .completed(completed)
+                    .startLine(startLine)
+                    .checkpoint(checkpoint)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .errors(List.copyOf(errors))
+                    .build();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.hwansol.moviego.member.service;
+
+import com.hwansol.moviego.config.LocalCacheEviction;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 최근 조회에 실패한 아이디, 이메일 캐시 (없는 회원 반복 조회가 DB까지 가지 않도록 짧은 시간 동안 보관)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberNegativeCache implements MessageListener {
+
+    private static final String NEGATIVE_CACHE_CHANNEL = "memberNegativeCache";
+    private static final String USER_ID_PREFIX = "id:";
+    private static final String EMAIL_PREFIX = "email:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<String, Long> missingUserIds = new ConcurrentHashMap<>(); // 아이디 -> 만료 시간
+    private final Map<String, Long> missingEmails = new ConcurrentHashMap<>(); // 이메일 -> 만료 시간
+
+    @Value("${spring.cache.member.negative-cache-millis:30000}")
+    private long negativeCacheMillis; // 조회 실패 캐시 유지 시간
+
+    @Value("${spring.cache.member.negative-cache-max-size:100000}")
+    private int negativeCacheMaxSize; // 조회 실패 캐시 최대 개수 (아이디, 이메일 각각)
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this,
+            new ChannelTopic(NEGATIVE_CACHE_CHANNEL));
+    }
+
+    /**
+     * 최근에 조회에 실패한 아이디인지 확인한다.
+     *
+     * @param userId 회원 아이디
+     * @return 조회 실패 캐시에 있는 경우 true
+     */
+    public boolean isMissingUserId(String userId) {
+        return isMissing(missingUserIds, normalize(userId));
+    }
+
+    /**
+     * 최근에 조회에 실패한 이메일인지 확인한다.
+     *
+     * @param userEmail 회원 이메일
+     * @return 조회 실패 캐시에 있는 경우 true
+     */
+    public boolean isMissingEmail(String userEmail) {
+        return isMissing(missingEmails, normalize(userEmail));
+    }
+
+    public void putMissingUserId(String userId) {
+        put(missingUserIds, normalize(userId));
+    }
+
+    public void putMissingEmail(String userEmail) {
+        put(missingEmails, normalize(userEmail));
+    }
+
+    /**
+     * 회원이 생성된 경우 조회 실패 캐시에서 바로 삭제하고 다른 서버에도 알린다. 트랜잭션 안에서 호출한 경우 커밋 이후에 한 번
+     * 더 삭제한다.
+     *
+     * @param userId    생성된 회원 아이디
+     * @param userEmail 생성된 회원 이메일
+     */
+    public void evict(String userId, String userEmail) {
+        String normalizedUserId = normalize(userId);
+        String normalizedEmail = normalize(userEmail);
+
+        evictAll(normalizedUserId, normalizedEmail);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictAll(normalizedUserId, normalizedEmail);
+                    }
+                });
+        }
+    }
+
+    // 다른 서버에서 생성된 회원 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (key.startsWith(USER_ID_PREFIX)) {
+            missingUserIds.remove(key.substring(USER_ID_PREFIX.length()));
+        } else if (key.startsWith(EMAIL_PREFIX)) {
+            missingEmails.remove(key.substring(EMAIL_PREFIX.length()));
+        }
+    }
+
+    private void evictAll(String userId, String userEmail) {
+        if (userId != null) {
+            missingUserIds.remove(userId);
+            publish(USER_ID_PREFIX + userId);
+        }
+
+        if (userEmail != null) {
+            missingEmails.remove(userEmail);
+            publish(EMAIL_PREFIX + userEmail);
+        }
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(NEGATIVE_CACHE_CHANNEL, key);
+        } catch (DataAccessException e) {
+            log.error("조회 실패 캐시 삭제 알림 실패 = {}", e.getMessage());
+        }
+    }
+
+    // DB는 아이디, 이메일을 대소문자 구분 없이 비교하므로 소문자로 저장 (다른 서버에는 소문자로 전파)
+    private String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isMissing(Map<String, Long> cache, String key) {
+        Long expiredAt = cache.get(key);
+
+        if (expiredAt == null) {
+            return false;
+        }
+
+        if (expiredAt <= System.currentTimeMillis()) {
+            cache.remove(key);
+            return false;
+        }
+
+        return true;
+    }
+
+    private void put(Map<String, Long> cache, String key) {
+        if (key == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        // 가득 찬 경우 전체를 확인하지 않고 일부 항목만 확인해 만료되었거나 가장 먼저 만료되는 항목을 제거
+        if (LocalCacheEviction.makeRoom(cache, negativeCacheMaxSize, Long::longValue, now)) {
+            cache.put(key, now + negativeCacheMillis);
+        }
+    }
+}
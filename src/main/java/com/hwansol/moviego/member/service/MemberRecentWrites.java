@@ -0,0 +1,138 @@
+package com.hwansol.moviego.member.service;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근에 변경된 아이디, 이메일 목록. 복제 DB에 변경 내용이 반영되기 전에 다시 조회하는 경우 주 DB에서 조회하도록 짧은 시간 동안
+ * 보관한다. 다른 서버에서 변경된 값도 pub/sub으로 전달받는다.
+ * <p>
+ * 복제 DB가 설정되지 않은 경우 항상 주 DB에서 조회하므로 아무것도 보관하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberRecentWrites implements MessageListener {
+
+    private static final String RECENT_WRITE_CHANNEL = "memberRecentWrite";
+    private static final String USER_ID_PREFIX = "id:";
+    private static final String EMAIL_PREFIX = "email:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<String, Long> recentUserIds = new ConcurrentHashMap<>(); // 아이디 -> 만료 시간
+    private final Map<String, Long> recentEmails = new ConcurrentHashMap<>(); // 이메일 -> 만료 시간
+
+    @Value("${spring.datasource.replica.urls:}")
+    private String[] replicaUrls;
+
+    @Value("${spring.datasource.replica.read-your-writes-millis:5000}")
+    private long readYourWritesMillis; // 변경 후 주 DB에서 조회하는 시간 (복제 지연보다 길게 설정)
+
+    private boolean enabled;
+
+    @PostConstruct
+    void init() {
+        enabled = replicaUrls.length > 0;
+
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this,
+                new ChannelTopic(RECENT_WRITE_CHANNEL));
+        }
+    }
+
+    /**
+     * 최근에 변경된 아이디인지 확인한다.
+     *
+     * @param userId 회원 아이디
+     * @return 주 DB에서 조회해야 하는 경우 true
+     */
+    public boolean isRecentUserId(String userId) {
+        return isRecent(recentUserIds, userId);
+    }
+
+    /**
+     * 최근에 변경된 이메일인지 확인한다.
+     *
+     * @param userEmail 회원 이메일
+     * @return 주 DB에서 조회해야 하는 경우 true
+     */
+    public boolean isRecentEmail(String userEmail) {
+        return isRecent(recentEmails, userEmail);
+    }
+
+    /**
+     * 변경된 아이디, 이메일을 추가하고 다른 서버에도 알린다.
+     *
+     * @param userId    회원 아이디 (없는 경우 null)
+     * @param userEmail 회원 이메일 (없는 경우 null)
+     */
+    public void mark(String userId, String userEmail) {
+        if (!enabled) {
+            return;
+        }
+
+        if (userId != null) {
+            put(recentUserIds, userId);
+            publish(USER_ID_PREFIX + userId);
+        }
+
+        if (userEmail != null) {
+            put(recentEmails, userEmail);
+            publish(EMAIL_PREFIX + userEmail);
+        }
+    }
+
+    // 다른 서버에서 변경된 아이디, 이메일 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (key.startsWith(USER_ID_PREFIX)) {
+            put(recentUserIds, key.substring(USER_ID_PREFIX.length()));
+        } else if (key.startsWith(EMAIL_PREFIX)) {
+            put(recentEmails, key.substring(EMAIL_PREFIX.length()));
+        }
+    }
+
+    private boolean isRecent(Map<String, Long> recent, String key) {
+        Long expiredAt = recent.get(key);
+
+        if (expiredAt == null) {
+            return false;
+        }
+
+        if (expiredAt <= System.currentTimeMillis()) {
+            recent.remove(key, expiredAt);
+            return false;
+        }
+
+        return true;
+    }
+
+    private void put(Map<String, Long> recent, String key) {
+        long now = System.currentTimeMillis();
+        recent.values().removeIf(expiredAt -> expiredAt <= now); // 변경은 드물어서 매번 정리해도 부담이 적음
+        recent.put(key, now + readYourWritesMillis);
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(RECENT_WRITE_CHANNEL, key);
+        } catch (DataAccessException e) {
+            log.error("회원 변경 알림 실패 = {}", e.getMessage());
+        }
+    }
+}
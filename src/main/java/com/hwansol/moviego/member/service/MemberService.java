@@ -1,26 +1,42 @@
 package com.hwansol.moviego.member.service;
 
 import com.hwansol.moviego.auth.TokenProvider;
+import com.hwansol.moviego.config.DataSourceRouting;
 import com.hwansol.moviego.mail.service.MailService;
 import com.hwansol.moviego.mail.service.MailType;
 import com.hwansol.moviego.member.dto.MemberAuthDto;
+import com.hwansol.moviego.member.dto.MemberAvailabilityDto;
+import com.hwansol.moviego.member.dto.MemberCacheDto;
+import com.hwansol.moviego.member.dto.MemberFindIdDto;
 import com.hwansol.moviego.member.dto.MemberModifyEmailDto;
 import com.hwansol.moviego.member.dto.MemberModifyPwDto;
 import com.hwansol.moviego.member.dto.MemberSignInDto;
 import com.hwansol.moviego.member.dto.MemberSignupDto;
+import com.hwansol.moviego.member.exception.DuplicatedIdException;
 import com.hwansol.moviego.member.exception.MemberErrorCode;
 import com.hwansol.moviego.member.exception.MemberException;
 import com.hwansol.moviego.member.model.Member;
 import com.hwansol.moviego.member.model.OAuthProvider;
 import com.hwansol.moviego.member.model.Role;
+import com.hwansol.moviego.member.repository.MemberProviderProjection;
 import com.hwansol.moviego.member.repository.MemberRepository;
+import com.hwansol.moviego.member.repository.MemberUserIdProjection;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,24 +50,36 @@ public class MemberService {
 
     private static final String AUTH_NUM_KEY = "auth:";
     private static final String IS_AUTH_KEY = "isAuth:";
+    private static final int ID_SUGGESTION_COUNT = 5; // 아이디 중복 시 알려줄 후보 수
 
     private final PasswordEncoder passwordEncoder;
     private final MailService mailService;
     private final RedisTemplate<String, String> redisTemplate;
     private final MemberRepository memberRepository;
     private final TokenProvider tokenProvider;
+    private final MemberCacheService memberCacheService;
+    private final MemberNegativeCache memberNegativeCache;
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
+    private final MemberIdIndex memberIdIndex;
+    private final MemberRecentWrites memberRecentWrites;
 
     /**
-     * 아이디 중복 확인 서비스
+     * 아이디 중복 확인 서비스. 사용 중인 아이디인 경우 사용 가능한 아이디 후보를 함께 알려준다.
      *
      * @param userId - 사용할 아이디
+     * @throws DuplicatedIdException 사용 중인 아이디인 경우
      */
     @Transactional(readOnly = true)
     public void duplicatedId(String userId) {
-        boolean isDuplicated = memberRepository.existsByUserId(userId);
+        if (!memberAvailabilityFilter.mightContainUserId(userId)) { // 확실히 사용 중이 아닌 아이디
+            return;
+        }
+
+        boolean isDuplicated = DataSourceRouting.onPrimaryIf(
+            memberRecentWrites.isRecentUserId(userId), () -> memberRepository.existsByUserId(userId));
 
         if (isDuplicated) {
-            throw new MemberException(MemberErrorCode.DUPLICATED_ID);
+            throw new DuplicatedIdException(suggestUserIds(userId));
         }
     }
 
@@ -62,35 +90,55 @@ public class MemberService {
      */
     @Transactional(readOnly = true)
     public void duplicatedEmail(String userEmail) {
-        boolean isDuplicated = memberRepository.existsByUserEmail(userEmail);
+        if (!memberAvailabilityFilter.mightContainEmail(userEmail)) { // 확실히 사용 중이 아닌 이메일
+            return;
+        }
 
-        if (isDuplicated) {
-            Member member = memberRepository.findByUserEmail(userEmail)
-                .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+        Optional<MemberProviderProjection> usedEmail = DataSourceRouting.onPrimaryIf(
+            memberRecentWrites.isRecentEmail(userEmail),
+            () -> memberRepository.findProviderByUserEmail(userEmail));
 
-            isKakaoUser(member);
+        if (usedEmail.isPresent()) {
+            isKakaoUser(usedEmail.get().getProvider());
 
             throw new MemberException(MemberErrorCode.DUPLICATED_EMAIL);
         }
     }
 
+    /**
+     * 아이디, 이메일 사용 가능 여부 일괄 확인 서비스. 필터에 없는 값은 바로 사용 가능으로 처리하고, 나머지는 종류별로 한 번의
+     * 쿼리로 확인한다.
+     *
+     * @param request MemberAvailabilityDto.Request
+     * @return 값별 사용 가능 여부
+     */
+    @Transactional(readOnly = true)
+    public MemberAvailabilityDto.Response checkAvailability(MemberAvailabilityDto.Request request) {
+        return MemberAvailabilityDto.Response.builder()
+            .userIds(checkAvailability(request.getUserIds(),
+                memberAvailabilityFilter::mightContainUserId, memberRepository::findUserIdsIn))
+            .userEmails(checkAvailability(request.getUserEmails(),
+                memberAvailabilityFilter::mightContainEmail, memberRepository::findUserEmailsIn))
+            .build();
+    }
+
     /**
      * 아이디 찾기 서비스
      *
      * @param userEmail 회원이메일
-     * @return 회원 엔티티
+     * @return 아이디를 발송한 이메일
      */
-    @Transactional(readOnly = true)
-    public Member findId(String userEmail) {
-        Member member = memberRepository.findByUserEmail(userEmail)
-            .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+    @Transactional // 발송할 메일을 outbox에 저장
+    public MemberFindIdDto.Response findId(String userEmail) {
+        MemberUserIdProjection member = findByUserEmail(userEmail,
+            memberRepository::findUserIdByUserEmail);
 
-        isKakaoUser(member);
+        isKakaoUser(member.getProvider());
 
         String userId = member.getUserId();
         mailService.sendEmail(userEmail, userId, MailType.ID);
 
-        return member;
+        return MemberFindIdDto.Response.from(userEmail);
     }
 
     /**
@@ -101,19 +149,16 @@ public class MemberService {
      */
     @Transactional
     public void findPw(String userId, String userEmail) {
-        Member member = memberRepository.findByUserId(userId)
-            .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+        Member member = findByUserId(userId);
 
         isKakaoUser(member);
 
         String temporaryPw = UUID.randomUUID().toString().substring(0, 8); // 8자리 임시 비밀번호
         String newPw = passwordEncoder.encode(temporaryPw);
 
-        member = member.toBuilder()
-            .userPw(newPw)
-            .build();
-
-        memberRepository.save(member);
+        member.changePassword(newPw);
+        memberCacheService.evict(userId);
+        tokenProvider.revokeAllTokens(userId); // 기존에 발급된 토큰 무효화
 
         mailService.sendEmail(userEmail, temporaryPw, MailType.PW);
     }
@@ -122,12 +167,10 @@ public class MemberService {
      * 회원 조회 서비스
      *
      * @param userId 조회할 회원 아이디
-     * @return 조회된 회원 엔티티
+     * @return 조회된 회원 정보 (캐시)
      */
-    @Transactional(readOnly = true)
-    public Member getMember(String userId) {
-        return memberRepository.findByUserId(userId)
-            .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+    public MemberCacheDto getMember(String userId) {
+        return memberCacheService.getMember(userId);
     }
 
     /**
@@ -180,8 +223,15 @@ public class MemberService {
             .userEmail(request.getUserEmail())
             .role(Role.ROLE_USER)
             .build();
+        Member result = memberRepository.save(member);
+
+        memberCacheService.evict(result.getUserId());
+        memberNegativeCache.evict(result.getUserId(), result.getUserEmail());
+        memberAvailabilityFilter.put(result.getUserId(), result.getUserEmail());
+        memberIdIndex.add(result.getUserId());
+        memberRecentWrites.mark(result.getUserId(), result.getUserEmail());
 
-        return memberRepository.save(member);
+        return result;
     }
 
     /**
@@ -192,8 +242,7 @@ public class MemberService {
      * @return 생성된 accessToken
      */
     public String signIn(MemberSignInDto.Request request, HttpServletResponse response) {
-        Member member = memberRepository.findByUserId(request.getUserId())
-            .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
+        Member member = findByUserId(request.getUserId());
 
         if (!passwordEncoder.matches(request.getUserPw(), member.getUserPw())) {
             throw new MemberException(MemberErrorCode.WRONG_PASSWORD);
@@ -216,20 +265,37 @@ public class MemberService {
         tokenProvider.logout(request, response);
     }
 
+    /**
+     * 모든 기기 로그아웃 서비스
+     *
+     * @param userId   회원 아이디
+     * @param request  ServletRequest
+     * @param response ServletResponse
+     */
+    public void signOutAll(String userId, HttpServletRequest request,
+        HttpServletResponse response) {
+        tokenProvider.logoutAll(userId, request, response);
+    }
+
     /**
      * 회원 이메일 변경 서비스
      *
      * @param request MemberModifyEmailDto.Request
      * @return 이메일 변경 후 저장된 회원 엔티티
      */
+    @Transactional
     public Member modifyEmail(MemberModifyEmailDto.Request request) {
-        Member member = validatedInModifyEmail(request);
+        Member result = validatedInModifyEmail(request);
 
-        member = member.toBuilder()
-            .userEmail(request.getNewEmail())
-            .build();
+        result.changeEmail(request.getNewEmail());
 
-        return memberRepository.save(member);
+        memberCacheService.evict(result.getUserId());
+        memberNegativeCache.evict(null, result.getUserEmail());
+        memberAvailabilityFilter.put(null, result.getUserEmail());
+        memberRecentWrites.mark(result.getUserId(), result.getUserEmail());
+        memberRecentWrites.mark(null, request.getOriginEmail()); // 이전 이메일로 조회되지 않도록
+
+        return result;
     }
 
     /**
@@ -239,16 +305,16 @@ public class MemberService {
      * @param request MemberModifyPwDto.Request
      * @return 비밀번호가 변경된 회원 엔티티
      */
+    @Transactional
     public Member modifyPw(String userId, MemberModifyPwDto.Request request) {
-        Member member = validatedInModifyPw(userId, request);
+        Member result = validatedInModifyPw(userId, request);
 
-        String encodedPw = passwordEncoder.encode(request.getNewPw());
+        result.changePassword(passwordEncoder.encode(request.getNewPw()));
 
-        member = member.toBuilder()
-            .userPw(encodedPw)
-            .build();
+        memberCacheService.evict(userId);
+        tokenProvider.revokeAllTokens(userId); // 기존에 발급된 토큰 무효화
 
-        return memberRepository.save(member);
+        return result;
     }
 
     /**
@@ -259,25 +325,103 @@ public class MemberService {
      * @param response ServletResponse
      * @return 탈퇴 처리된 회원 엔티티
      */
+    @Transactional
     public Member deleteMember(String userId, HttpServletRequest request,
         HttpServletResponse response) {
-        Member member = memberRepository.findByUserId(userId)
+        Member result = memberRepository.findByUserId(userId)
             .orElseThrow(() -> new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
-        member = member.toBuilder()
-            .delDate(LocalDateTime.now())
-            .build();
-        Member result = memberRepository.save(member);
+        result.withdraw(LocalDateTime.now());
 
+        memberCacheService.evict(userId);
+        memberIdIndex.remove(userId); // 탈퇴한 회원의 아이디는 다시 사용 가능
+        memberRecentWrites.mark(userId, result.getUserEmail());
+        tokenProvider.revokeAllTokens(userId); // 기존에 발급된 토큰 무효화
         tokenProvider.logout(request, response);
 
         return result;
     }
 
+    // 인덱스로 고른 아이디 후보 중 DB에서도 사용 중이 아닌 아이디만 반환 (다른 서버 반영 지연 대비)
+    private List<String> suggestUserIds(String userId) {
+        List<String> candidates = memberIdIndex.suggest(userId, ID_SUGGESTION_COUNT);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> used = new HashSet<>();
+        for (String value : memberRepository.findUserIdsIn(candidates)) {
+            used.add(value.toLowerCase(Locale.ROOT));
+        }
+
+        return candidates.stream()
+            .filter(candidate -> !used.contains(candidate.toLowerCase(Locale.ROOT)))
+            .toList();
+    }
+
+    // 값별 사용 가능 여부 확인 (요청 순서 유지, 중복 값은 한 번만 확인)
+    private Map<String, Boolean> checkAvailability(List<String> values,
+        Predicate<String> mightContain, Function<Collection<String>, List<String>> findUsed) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        if (values == null) {
+            return result;
+        }
+
+        Set<String> candidates = new HashSet<>();
+        for (String value : values) {
+            result.put(value, true);
+            if (mightContain.test(value)) {
+                candidates.add(value);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            // DB는 대소문자를 구분하지 않고 비교하므로 조회된 값도 대소문자 구분 없이 매칭
+            Set<String> used = new HashSet<>();
+            for (String value : findUsed.apply(candidates)) {
+                used.add(value.toLowerCase(Locale.ROOT));
+            }
+            result.replaceAll((value, available) -> !used.contains(value.toLowerCase(Locale.ROOT)));
+        }
+
+        return result;
+    }
+
+    // 아이디로 회원 조회 (최근에 조회에 실패한 아이디는 DB 조회 없이 실패 처리)
+    private Member findByUserId(String userId) {
+        if (memberNegativeCache.isMissingUserId(userId)) {
+            throw new MemberException(MemberErrorCode.NOT_FOUND_MEMBER);
+        }
+
+        return DataSourceRouting.onPrimaryIf(memberRecentWrites.isRecentUserId(userId),
+                () -> memberRepository.findByUserId(userId))
+            .orElseThrow(() -> {
+                memberNegativeCache.putMissingUserId(userId);
+                return new MemberException(MemberErrorCode.NOT_FOUND_MEMBER);
+            });
+    }
+
+    // 이메일로 회원 조회 (최근에 조회에 실패한 이메일은 DB 조회 없이 실패 처리)
+    private <T> T findByUserEmail(String userEmail, Function<String, Optional<T>> finder) {
+        if (memberNegativeCache.isMissingEmail(userEmail)) {
+            throw new MemberException(MemberErrorCode.NOT_FOUND_MEMBER);
+        }
+
+        return DataSourceRouting.onPrimaryIf(memberRecentWrites.isRecentEmail(userEmail),
+                () -> finder.apply(userEmail))
+            .orElseThrow(() -> {
+                memberNegativeCache.putMissingEmail(userEmail);
+                return new MemberException(MemberErrorCode.NOT_FOUND_MEMBER);
+            });
+    }
+
     // 카카오 회원 판별 메소드
     private void isKakaoUser(Member member) {
-        if (member.getOAuthProvider() != null && member.getOAuthProvider()
-            .equals(OAuthProvider.KAKAO)) {
+        isKakaoUser(member.getOAuthProvider());
+    }
+
+    private void isKakaoUser(OAuthProvider oAuthProvider) {
+        if (oAuthProvider != null && oAuthProvider.equals(OAuthProvider.KAKAO)) {
             throw new MemberException(MemberErrorCode.SOCIAL_USER);
         }
     }
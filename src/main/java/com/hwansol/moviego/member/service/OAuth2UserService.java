@@ -21,6 +21,10 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
 
     private final PasswordEncoder passwordEncoder;
     private final MemberRepository memberRepository;
+    private final MemberNegativeCache memberNegativeCache;
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
+    private final MemberIdIndex memberIdIndex;
+    private final MemberRecentWrites memberRecentWrites;
 
     @Transactional
     @Override
@@ -50,8 +54,14 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
                 .role(Role.ROLE_USER)
                 .oAuthProvider(OAuthProvider.KAKAO)
                 .build();
+            Member result = memberRepository.save(member);
 
-            return memberRepository.save(member);
+            memberNegativeCache.evict(result.getUserId(), result.getUserEmail());
+            memberAvailabilityFilter.put(result.getUserId(), result.getUserEmail());
+            memberIdIndex.add(result.getUserId());
+            memberRecentWrites.mark(result.getUserId(), result.getUserEmail());
+
+            return result;
         }
 
         return member;
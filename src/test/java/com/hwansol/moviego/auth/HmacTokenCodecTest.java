@@ -0,0 +1,196 @@
+package com.hwansol.moviego.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.ExpiredJwtException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HmacTokenCodecTest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+        "moviego-test-secret-moviego-test-secret-moviego-test-secret-1234".getBytes(
+            StandardCharsets.US_ASCII));
+
+    private final Random random = new Random(20240601L);
+
+    private JwtKeyRing keyRing;
+    private JwtSigningKey key;
+    private HmacTokenCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = new JwtKeyRing(SECRET, new String[0], "HS512", "", "", new String[0]);
+        key = keyRing.getCurrentKey();
+        codec = new HmacTokenCodec(List.of(key));
+    }
+
+    @Test
+    @DisplayName("무작위로 변형한 토큰에 대해 jjwt와 같은 검증 결과")
+    void sameResultAsJjwtForFuzzedTokens() {
+        int fastPathCount = 0;
+
+        for (int i = 0; i < 20000; i++) {
+            String token = fuzzedToken();
+
+            String expected = outcome(token,
+                t -> ParsedToken.from(keyRing.getParser().parseClaimsJws(t).getBody()));
+            String actual = outcome(token, keyRing::verify);
+            assertThat(actual).as(token).isEqualTo(expected);
+
+            ParsedToken fast = decodeOrNull(token);
+            if (fast != null) {
+                fastPathCount++;
+                assertThat(expected).as(token).isIn(fast.toString(), "EXPIRED");
+            }
+        }
+
+        assertThat(fastPathCount).isGreaterThan(1000);
+    }
+
+    @Test
+    @DisplayName("직접 발급한 토큰은 jjwt 없이 처리")
+    void decodeIssuedTokens() {
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        ParsedToken token = new ParsedToken("jti", "test", List.of("USER"), 3L, now,
+            now + 60_000);
+
+        for (int codecVersion : new int[]{ParsedToken.LEGACY_CODEC, ParsedToken.COMPACT_CODEC}) {
+            String encoded = sign(key.getEncodedHeader(), json(token, codecVersion));
+
+            assertThat(codec.decode(encoded)).isEqualTo(token);
+        }
+    }
+
+    private String fuzzedToken() {
+        long now = System.currentTimeMillis() / 1000;
+        StringBuilder payload = new StringBuilder("{");
+        List<String> claims = new ArrayList<>();
+
+        if (random.nextBoolean()) { // 형식이 올바른 토큰 (값, 공백, claim 순서만 무작위)
+            claims.add(claim("jti", pick("\"a1b2\"", "\"" + random.nextLong() + "\"")));
+            claims.add(claim("sub", pick("\"test\"", "\"user01\"", "\"\"")));
+            claims.add(claim("roles", pick("[\"USER\"]", "[\"ROLE_USER\",\"ROLE_ADMIN\"]", "[]",
+                "[ \"USER\" ]")));
+            claims.add(claim("tokenVersion", pick("0", "1", "-3", "42")));
+            claims.add(claim("v", pick("1", "2")));
+            claims.add(claim("rl", pick("0", "1", "3")));
+            claims.add(claim("tv", pick("0", "7")));
+            claims.add(claim("iat", pick(String.valueOf(now), "0", "-5")));
+            claims.add(claim("exp", pick(String.valueOf(now + 3600), String.valueOf(now - 3600))));
+            Collections.shuffle(claims, random);
+        } else {
+            claims.add(claim("jti", pick("\"a1b2\"", "null", "12", "\"a\\\"b\"", "\"é\"")));
+            claims.add(claim("sub", pick("\"test\"", "1", "[\"x\"]", "\"a\\u0041\"", "{}")));
+            claims.add(claim("roles", pick("[\"USER\"]", "\"USER\"", "[1]", "[\"USER\",]")));
+            claims.add(claim("tokenVersion", number()));
+            claims.add(claim("v", pick("2", "2.0", "\"2\"", "02")));
+            claims.add(claim("rl", pick("1", "-1", "1e0", "4294967297")));
+            claims.add(claim("tv", number()));
+            claims.add(claim("iat", pick(String.valueOf(now), "1.5", "true")));
+            claims.add(claim("exp", pick(String.valueOf(now + 86400), "9999999999999999", "null",
+                "\"soon\"")));
+            claims.add(claim(pick("nbf", "aud", "x", "roles", "exp"), pick("1", "\"a\"", "[]")));
+        }
+
+        for (String claim : claims) {
+            if (claim != null) {
+                if (payload.length() > 1) {
+                    payload.append(pick(",", ",", " , ", "\n,"));
+                }
+                payload.append(claim);
+            }
+        }
+        payload.append(random.nextInt(4) > 0 ? "}" : pick(" }", "}\n", "}x", "", "}}"));
+
+        String header = pick(key.getEncodedHeader(), key.getEncodedHeader(),
+            ENCODER.encodeToString(("{\"typ\":\"JWT\",\"alg\":\"HS512\",\"kid\":\"" + key.getKid()
+                + "\"}").getBytes(StandardCharsets.US_ASCII)),
+            ENCODER.encodeToString("{\"alg\":\"HS512\"}".getBytes(StandardCharsets.US_ASCII)),
+            ENCODER.encodeToString("{\"alg\":\"HS512\",\"kid\":\"unknown\"}".getBytes(
+                StandardCharsets.US_ASCII)));
+
+        return mutate(sign(header, payload.toString()));
+    }
+
+    // 서명 후 일부 토큰은 한 글자를 바꾸거나 자르거나 덧붙인다
+    private String mutate(String token) {
+        int choice = random.nextInt(10);
+
+        if (choice < 6) {
+            return token;
+        }
+
+        int index = random.nextInt(token.length());
+        String alphabet = "ABCxyz019-_.=+/ ";
+        char c = alphabet.charAt(random.nextInt(alphabet.length()));
+
+        return switch (choice) {
+            case 6 -> token.substring(0, index) + c + token.substring(index + 1);
+            case 7 -> token.substring(0, index);
+            case 8 -> token + c;
+            default -> token.substring(0, token.length() - 1)
+                + (char) (token.charAt(token.length() - 1) + 1);
+        };
+    }
+
+    private String sign(String header, String payload) {
+        String content = header + "." + ENCODER.encodeToString(
+            payload.getBytes(StandardCharsets.UTF_8));
+
+        return content + "." + ENCODER.encodeToString(
+            key.sign(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private String json(ParsedToken token, int codecVersion) {
+        try {
+            return new ObjectMapper().writeValueAsString(token.toClaims(codecVersion));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String claim(String name, String value) {
+        if (random.nextInt(8) == 0) { // 일부 claim은 생략
+            return null;
+        }
+
+        return "\"" + name + "\"" + pick(":", ":", " : ") + value;
+    }
+
+    private String number() {
+        return pick("0", "1", "7", "-3", "01", "1.0", "123456789012345678901", "\"1\"");
+    }
+
+    private String pick(String... values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private ParsedToken decodeOrNull(String token) {
+        try {
+            return codec.decode(token);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private String outcome(String token, Function<String, ParsedToken> verifier) {
+        try {
+            return verifier.apply(token).toString();
+        } catch (ExpiredJwtException e) {
+            return "EXPIRED";
+        } catch (RuntimeException e) {
+            return "REJECTED";
+        }
+    }
+}
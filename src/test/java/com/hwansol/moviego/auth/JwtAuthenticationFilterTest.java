@@ -0,0 +1,154 @@
+package com.hwansol.moviego.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.model.PrincipalDetails;
+import com.hwansol.moviego.member.model.Role;
+import com.hwansol.moviego.member.service.MemberDetailsService;
+import jakarta.servlet.http.Cookie;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    @Mock
+    private MemberDetailsService memberDetailsService;
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    @Mock
+    private RevokedTokenStore revokedTokenStore;
+
+    private final AtomicInteger signatureCheckCount = new AtomicInteger();
+
+    private TokenProvider issuer; // 토큰 발급용 (발급 시 캐시가 채워지지 않도록 검증용과 분리)
+    private TokenProvider tokenProvider; // 검증용
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        // 서명 검증 횟수를 센다
+        JwtKeyRing countingKeyRing = new JwtKeyRing(SECRET, new String[0], "HS512", "", "",
+            new String[0]) {
+            @Override
+            public ParsedToken verify(String token) {
+                signatureCheckCount.incrementAndGet();
+                return super.verify(token);
+            }
+        };
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, new String[0], "HS512", "", "", new String[0]);
+
+        issuer = new TokenProvider(memberDetailsService, new ClaimsCache(100), tokenVersionService,
+            keyRing, new ObjectMapper(), revokedTokenStore);
+        tokenProvider = new TokenProvider(memberDetailsService, new ClaimsCache(100),
+            tokenVersionService, countingKeyRing, new ObjectMapper(), revokedTokenStore);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(tokenProvider, new ObjectMapper());
+
+        Member member = Member.builder()
+            .userId("test")
+            .role(Role.ROLE_USER)
+            .build();
+
+        when(tokenVersionService.getCurrentVersion(anyString())).thenReturn(0L);
+        when(tokenVersionService.isRevoked(anyString(), anyLong())).thenReturn(false);
+        when(revokedTokenStore.isRevoked(anyString())).thenReturn(false);
+        when(revokedTokenStore.isRevokedInStore(anyString())).thenReturn(false);
+        when(memberDetailsService.loadUserByUsername("test"))
+            .thenReturn(new PrincipalDetails(member, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("인증 요청 시 토큰 서명 검증은 한 번만 수행")
+    void verifySignatureOncePerRequest() throws Exception {
+        String accessToken = issuer.generateAccessToken("test", List.of("USER"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        assertThat(signatureCheckCount.get()).isEqualTo(1);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName())
+            .isEqualTo("test");
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 요청하면 서명 검증 생략")
+    void skipSignatureCheckForCachedToken() throws Exception {
+        String accessToken = issuer.generateAccessToken("test", List.of("USER"));
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("Authorization", "Bearer " + accessToken);
+            jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain());
+        }
+
+        assertThat(signatureCheckCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("accessToken 재발급 시 refreshToken 서명 검증은 한 번만 수행")
+    void verifyRefreshTokenOnce() {
+        MockHttpServletResponse issueResponse = new MockHttpServletResponse();
+        issuer.generateRefreshToken("test", List.of("USER"), issueResponse);
+        Cookie refreshCookie = issueResponse.getCookie("refreshToken");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(refreshCookie);
+        String accessToken = tokenProvider.reGenerateAccessToken(request,
+            new MockHttpServletResponse());
+
+        assertThat(signatureCheckCount.get()).isEqualTo(1);
+        assertThat(tokenProvider.parseToken(accessToken).memberId()).isEqualTo("test");
+        assertThat(tokenProvider.parseToken(accessToken).roles()).containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("compact 형식 토큰은 기존 형식보다 짧고 같은 정보로 검증")
+    void compactClaimsRoundTrip() {
+        String legacyToken = issuer.generateAccessToken("test", List.of("USER"));
+        ReflectionTestUtils.setField(issuer, "compactClaims", true);
+        String compactToken = issuer.generateAccessToken("test", List.of("ROLE_USER"));
+
+        ParsedToken legacy = tokenProvider.parseToken(legacyToken);
+        ParsedToken compact = tokenProvider.parseToken(compactToken);
+
+        assertThat(compactToken.length()).isLessThan(legacyToken.length());
+        assertThat(compact.memberId()).isEqualTo(legacy.memberId());
+        assertThat(compact.roles()).isEqualTo(legacy.roles());
+        assertThat(compact.tokenVersion()).isEqualTo(legacy.tokenVersion());
+        assertThat(tokenProvider.validateToken(compact)).isTrue();
+        assertThat(tokenProvider.validateToken(legacy)).isTrue();
+    }
+}
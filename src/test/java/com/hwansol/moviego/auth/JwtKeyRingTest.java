@@ -0,0 +1,53 @@
+package com.hwansol.moviego.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+        "moviego-test-secret-moviego-test-secret-moviego-test-secret-1234".getBytes(
+            StandardCharsets.US_ASCII));
+
+    @Test
+    @DisplayName("ES256인데 EC 키가 설정되지 않은 경우 서버 시작 실패")
+    void es256WithoutKey() {
+        assertThrows(IllegalStateException.class,
+            () -> new JwtKeyRing(SECRET, new String[0], "ES256", "", "", new String[0]));
+    }
+
+    @Test
+    @DisplayName("ES256으로 전환해도 kid 없이 HMAC 시크릿으로 발급된 이전 토큰 검증 가능")
+    void verifyLegacyTokenAfterSwitch() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        Base64.Encoder encoder = Base64.getEncoder();
+
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, new String[0], "ES256",
+            encoder.encodeToString(keyPair.getPrivate().getEncoded()),
+            encoder.encodeToString(keyPair.getPublic().getEncoded()), new String[0]);
+        String legacyToken = Jwts.builder()
+            .setSubject("test")
+            .setExpiration(new Date(System.currentTimeMillis() + 60000))
+            .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+            .compact();
+
+        assertThat(keyRing.getCurrentKey().getAlgorithm()).isEqualTo(SignatureAlgorithm.ES256);
+        assertThat(keyRing.getParser().parseClaimsJws(legacyToken).getBody().getSubject())
+            .isEqualTo("test");
+    }
+}
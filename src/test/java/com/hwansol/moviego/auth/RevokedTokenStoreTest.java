@@ -0,0 +1,83 @@
+package com.hwansol.moviego.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hwansol.moviego.config.BloomFilter;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenStoreTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RevokedTokenStore revokedTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenStore = new RevokedTokenStore(redisTemplate, redisMessageListenerContainer);
+        ReflectionTestUtils.setField(revokedTokenStore, "currentFilter", new BloomFilter(100, 0.01));
+        ReflectionTestUtils.setField(revokedTokenStore, "previousFilter",
+            new BloomFilter(100, 0.01));
+        ReflectionTestUtils.setField(revokedTokenStore, "rotatedAt", System.currentTimeMillis());
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("redis 장애로 무효화 토큰을 저장하지 못해도 예외 없이 로그아웃 진행")
+    void revokeWhenRedisDown() {
+        doThrow(new RedisConnectionFailureException("down")).when(valueOperations)
+            .set(anyString(), anyString(), any(Duration.class));
+
+        assertThatCode(() -> revokedTokenStore.revoke("jti",
+            System.currentTimeMillis() + 60000)).doesNotThrowAnyException();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("만료 시점까지 redis에 저장하고 다른 서버에 전파")
+    void revoke() {
+        revokedTokenStore.revoke("jti", System.currentTimeMillis() + 60000);
+
+        verify(valueOperations).set(eq("revokedToken:jti"), eq(""), any(Duration.class));
+        verify(redisTemplate).convertAndSend("revokedToken", "jti");
+    }
+
+    @Test
+    @DisplayName("redis 장애로 무효화 여부를 알 수 없는 경우 기본은 거부, fail-open 설정 시 허용")
+    void isRevokedInStoreWhenRedisDown() {
+        given(redisTemplate.hasKey("revokedToken:jti"))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(revokedTokenStore.isRevokedInStore("jti")).isTrue();
+
+        ReflectionTestUtils.setField(revokedTokenStore, "failOpen", true);
+        assertThat(revokedTokenStore.isRevokedInStore("jti")).isFalse();
+    }
+}
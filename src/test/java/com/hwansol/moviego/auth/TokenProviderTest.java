@@ -0,0 +1,84 @@
+package com.hwansol.moviego.auth;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.service.MemberDetailsService;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+        "moviego-test-secret-moviego-test-secret-moviego-test-secret-1234".getBytes(
+            StandardCharsets.US_ASCII));
+
+    @Mock
+    private MemberDetailsService memberDetailsService;
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    @Mock
+    private RevokedTokenStore revokedTokenStore;
+
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(memberDetailsService, new ClaimsCache(100),
+            tokenVersionService,
+            new JwtKeyRing(SECRET, new String[0], "HS512", "", "", new String[0]),
+            new ObjectMapper(), revokedTokenStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 토큰 무효화 - 트랜잭션 밖에서는 바로 토큰 버전 증가")
+    void revokeAllTokens() {
+        tokenProvider.revokeAllTokens("test");
+
+        verify(tokenVersionService).increaseVersion("test");
+    }
+
+    @Test
+    @DisplayName("모든 토큰 무효화 - 트랜잭션 안에서는 커밋된 경우에만 토큰 버전 증가")
+    void revokeAllTokensAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        tokenProvider.revokeAllTokens("rolledBack");
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        TransactionSynchronizationManager.initSynchronization();
+        tokenProvider.revokeAllTokens("committed");
+        verify(tokenVersionService, never()).increaseVersion("committed"); // 커밋 전에는 증가하지 않음
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(tokenVersionService).increaseVersion("committed");
+        verify(tokenVersionService, never()).increaseVersion("rolledBack");
+    }
+
+    private void complete(int status) {
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(), status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,105 @@
+package com.hwansol.moviego.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceTest {
+
+    private static final String KEY = "tokenVersion:test";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TokenVersionService tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionService = new TokenVersionService(redisTemplate);
+        ReflectionTestUtils.setField(tokenVersionService, "localCacheMillis", 60000L);
+        ReflectionTestUtils.setField(tokenVersionService, "localCacheMaxSize", 100);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("토큰 발급 시에는 서버 내부 캐시가 있어도 redis에서 조회")
+    void getCurrentVersion() {
+        given(valueOperations.get(KEY)).willReturn("1", "2");
+
+        assertThat(tokenVersionService.getVersion("test")).isEqualTo(1L);
+        assertThat(tokenVersionService.getCurrentVersion("test")).isEqualTo(2L);
+        assertThat(tokenVersionService.getVersion("test")).isEqualTo(2L); // 조회한 버전으로 캐시 교체
+        verify(valueOperations, times(2)).get(KEY);
+    }
+
+    @Test
+    @DisplayName("버전을 올리면 서버 내부 캐시도 바로 올린 버전으로 교체")
+    void increaseVersion() {
+        given(valueOperations.get(KEY)).willReturn("1");
+        given(valueOperations.increment(KEY)).willReturn(2L);
+
+        tokenVersionService.getVersion("test");
+        tokenVersionService.increaseVersion("test");
+
+        assertThat(tokenVersionService.isRevoked("test", 1L)).isTrue();
+        assertThat(tokenVersionService.isRevoked("test", 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서버 내부 캐시가 가득 찬 경우 전체를 비우지 않고 항목 하나만 제거")
+    void getVersionWhenLocalCacheFull() {
+        ReflectionTestUtils.setField(tokenVersionService, "localCacheMaxSize", 2);
+        given(valueOperations.get(anyString())).willReturn("1");
+
+        tokenVersionService.getVersion("test1");
+        tokenVersionService.getVersion("test2");
+        tokenVersionService.getVersion("test3");
+
+        assertThat(ReflectionTestUtils.getField(tokenVersionService, "localCache"))
+            .asInstanceOf(InstanceOfAssertFactories.MAP)
+            .hasSize(2)
+            .containsKey("test3");
+    }
+
+    @Test
+    @DisplayName("redis 장애 시 마지막으로 조회한 버전 사용")
+    void getVersionWhenRedisDown() {
+        ReflectionTestUtils.setField(tokenVersionService, "localCacheMillis", 0L);
+        given(valueOperations.get(KEY)).willReturn("3")
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        tokenVersionService.getVersion("test");
+
+        assertThat(tokenVersionService.isRevoked("test", 2L)).isTrue();
+        assertThat(tokenVersionService.isRevoked("test", 3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("redis 장애로 버전을 알 수 없는 경우 기본은 거부, fail-open 설정 시 허용")
+    void isRevokedWhenUnknown() {
+        given(valueOperations.get(KEY)).willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(tokenVersionService.isRevoked("test", 0L)).isTrue();
+
+        ReflectionTestUtils.setField(tokenVersionService, "failOpen", true);
+        assertThat(tokenVersionService.isRevoked("test", 0L)).isFalse();
+    }
+}
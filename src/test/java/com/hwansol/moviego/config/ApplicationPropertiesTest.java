@@ -0,0 +1,88 @@
+package com.hwansol.moviego.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hwansol.moviego.member.service.MemberAdminService;
+import com.hwansol.moviego.member.service.MemberArchiveService;
+import com.hwansol.moviego.member.service.MemberImportService;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+class ApplicationPropertiesTest {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^:}]+)");
+
+    // application.yml로 설정을 바꿀 수 있어야 하는 작업 (기본값이 있어 키가 틀려도 실행되는 설정)
+    private static final List<Class<?>> CONFIGURED_CLASSES = List.of(
+        MemberImportService.class, MemberAdminService.class, MemberArchiveService.class);
+
+    private final StandardEnvironment environment = new StandardEnvironment();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        new YamlPropertySourceLoader().load("application.yml",
+                new ClassPathResource("application.yml"))
+            .forEach(environment.getPropertySources()::addLast);
+    }
+
+    @Test
+    @DisplayName("코드에서 읽는 설정 키가 application.yml에 있음")
+    void propertiesBound() {
+        for (Class<?> type : CONFIGURED_CLASSES) {
+            for (String key : keys(type)) {
+                assertThat(environment.containsProperty(key))
+                    .as(type.getSimpleName() + " " + key)
+                    .isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("회원 가져오기 chunk 크기 설정")
+    void memberImportChunkSize() {
+        assertThat(environment.getProperty("spring.member.import.chunk-size", Integer.class))
+            .isEqualTo(1000);
+    }
+
+    private List<String> keys(Class<?> type) {
+        List<String> keys = new ArrayList<>();
+
+        for (Field field : type.getDeclaredFields()) {
+            Value value = field.getAnnotation(Value.class);
+            if (value != null) {
+                addKeys(keys, value.value());
+            }
+        }
+
+        for (Method method : type.getDeclaredMethods()) {
+            Scheduled scheduled = method.getAnnotation(Scheduled.class);
+            if (scheduled != null) {
+                addKeys(keys, scheduled.cron());
+            }
+        }
+
+        assertThat(keys).as(type.getSimpleName()).isNotEmpty();
+        return keys;
+    }
+
+    private void addKeys(List<String> keys, String expression) {
+        Matcher matcher = PLACEHOLDER.matcher(expression);
+
+        while (matcher.find()) {
+            keys.add(matcher.group(1));
+        }
+    }
+}
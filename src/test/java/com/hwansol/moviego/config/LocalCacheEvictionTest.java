@@ -0,0 +1,49 @@
+package com.hwansol.moviego.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalCacheEvictionTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    @DisplayName("가득 차지 않은 경우 제거하지 않음")
+    void makeRoomNotFull() {
+        Map<String, Long> cache = new ConcurrentHashMap<>(Map.of("a", NOW - 1));
+
+        assertThat(LocalCacheEviction.makeRoom(cache, 2, Long::longValue, NOW)).isTrue();
+        assertThat(cache).containsOnlyKeys("a");
+    }
+
+    @Test
+    @DisplayName("가득 찬 경우 만료된 항목만 제거")
+    void makeRoomRemoveExpired() {
+        Map<String, Long> cache = new ConcurrentHashMap<>(
+            Map.of("a", NOW - 1, "b", NOW + 100, "c", NOW + 10));
+
+        assertThat(LocalCacheEviction.makeRoom(cache, 3, Long::longValue, NOW)).isTrue();
+        assertThat(cache).containsOnlyKeys("b", "c");
+    }
+
+    @Test
+    @DisplayName("가득 차 있고 만료된 항목이 없는 경우 가장 먼저 만료되는 항목 하나만 제거 (전체를 비우지 않음)")
+    void makeRoomRemoveOldest() {
+        Map<String, Long> cache = new ConcurrentHashMap<>(
+            Map.of("a", NOW + 30, "b", NOW + 100, "c", NOW + 10));
+
+        assertThat(LocalCacheEviction.makeRoom(cache, 3, Long::longValue, NOW)).isTrue();
+        assertThat(cache).containsOnlyKeys("a", "b");
+    }
+
+    @Test
+    @DisplayName("최대 개수가 0인 경우 저장하지 않음")
+    void makeRoomDisabled() {
+        assertThat(LocalCacheEviction.makeRoom(new ConcurrentHashMap<String, Long>(), 0,
+            Long::longValue, NOW)).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package com.hwansol.moviego.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        // 연결할 수 없는 복제 DB (존재하지 않는 DB를 열지 않도록 IFEXISTS 사용)
+        DataSource brokenReplica = new DriverManagerDataSource(
+            "jdbc:h2:mem:broken;IFEXISTS=TRUE", "sa", "");
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primary, List.of(replica, brokenReplica), 60_000));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB, 나머지는 주 DB 사용")
+    void routeByReadOnly() {
+        assertThat(nameIn(writeTransaction)).isEqualTo("primary");
+        assertThat(name()).isEqualTo("primary"); // 트랜잭션 밖
+        for (int i = 0; i < 4; i++) {
+            assertThat(nameIn(readOnlyTransaction)).isEqualTo("replica");
+        }
+    }
+
+    @Test
+    @DisplayName("주 DB 지정 시 읽기 전용 트랜잭션도 주 DB 사용")
+    void forcePrimary() {
+        String name = readOnlyTransaction.execute(
+            status -> DataSourceRouting.onPrimaryIf(true, this::name));
+
+        assertThat(name).isEqualTo("primary");
+        assertThat(nameIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제 DB가 모두 연결에 실패하면 주 DB 사용")
+    void fallbackToPrimary() {
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+            database("primary"), List.of(new DriverManagerDataSource(
+                "jdbc:h2:mem:broken;IFEXISTS=TRUE", "sa", "")), 60_000));
+        TransactionTemplate transaction = new TransactionTemplate(
+            new DataSourceTransactionManager(routing));
+        transaction.setReadOnly(true);
+
+        String name = transaction.execute(
+            status -> new JdbcTemplate(routing).queryForObject("select name from node",
+                String.class));
+
+        assertThat(name).isEqualTo("primary");
+    }
+
+    private String nameIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> name());
+    }
+
+    private String name() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    // 이름이 저장된 H2 메모리 DB 생성 (마지막 연결이 끊겨도 유지)
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.execute("delete from node");
+        template.update("insert into node values (?)", name);
+
+        return dataSource;
+    }
+}
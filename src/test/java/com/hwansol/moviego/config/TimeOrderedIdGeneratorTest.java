@@ -0,0 +1,81 @@
+package com.hwansol.moviego.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+    private final AtomicLong now = new AtomicLong(TimeOrderedIdGenerator.EPOCH + 1000);
+
+    @Test
+    @DisplayName("id는 항상 증가하고 시간, 서버 번호가 포함")
+    void increasing() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, now::get);
+        Set<Long> ids = new HashSet<>();
+        long last = -1;
+
+        for (int i = 0; i < 100_000; i++) {
+            if (i % 1000 == 0) {
+                now.incrementAndGet();
+            }
+
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            assertThat(ids.add(id)).isTrue();
+            last = id;
+        }
+
+        long first = new TimeOrderedIdGenerator(7, () -> TimeOrderedIdGenerator.EPOCH + 1000)
+            .nextId();
+        assertThat(first >>> 22).isEqualTo(1000);
+        assertThat((first >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 순번을 모두 사용하면 다음 밀리초 사용")
+    void sequenceOverflow() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, now::get);
+        long id = 0;
+
+        for (int i = 0; i <= 4096; i++) {
+            id = generator.nextId();
+        }
+
+        assertThat(id >>> 22).isEqualTo(1001);
+        assertThat(id & 4095).isZero();
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전 id보다 큰 값 생성")
+    void clockMovesBackwards() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, now::get);
+        long before = generator.nextId();
+
+        now.addAndGet(-500);
+
+        assertThat(generator.nextId()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("서버 번호 범위 확인")
+    void invalidNodeId() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TimeOrderedIdGenerator(1024, now::get));
+    }
+
+    @Test
+    @DisplayName("서버 번호를 설정하지 않은 경우 실패")
+    void missingNodeId() {
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdGenerator.parseNodeId(null));
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdGenerator.parseNodeId(" "));
+        assertThrows(IllegalStateException.class,
+            () -> TimeOrderedIdGenerator.parseNodeId("${NODE_ID}"));
+        assertThat(TimeOrderedIdGenerator.parseNodeId("7")).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,118 @@
+package com.hwansol.moviego.mail.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hwansol.moviego.config.JpaAuditingConfig;
+import com.hwansol.moviego.mail.model.MailOutbox;
+import com.hwansol.moviego.mail.model.MailStatus;
+import com.hwansol.moviego.mail.service.MailType;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+class MailOutboxRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<MailOutbox> outboxes;
+
+    @BeforeEach
+    void setUp() {
+        outboxes = mailOutboxRepository.saveAll(List.of(
+            MailOutbox.pending("test1@test.com", "id1", MailType.ID, NOW.minusMinutes(1)),
+            MailOutbox.pending("test2@test.com", "id2", MailType.ID, NOW.minusMinutes(2)),
+            MailOutbox.pending("test3@test.com", "id3", MailType.ID, NOW.plusMinutes(1))));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("보낼 시각이 지난 발송 대기 메일을 보낼 시각 순서로 조회")
+    void findSendable() {
+        List<MailOutbox> sendable = mailOutboxRepository.findSendable(MailStatus.PENDING, NOW,
+            PageRequest.of(0, 10));
+
+        assertThat(sendable).extracting(MailOutbox::getId)
+            .containsExactly(outboxes.get(1).getId(), outboxes.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("가져간 메일은 lease 시각까지 다시 조회되지 않음")
+    void findSendableAfterClaim() {
+        List<MailOutbox> claimed = mailOutboxRepository.findSendable(MailStatus.PENDING, NOW,
+            PageRequest.of(0, 1));
+        claimed.forEach(outbox -> outbox.claim(NOW.plusMinutes(5)));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MailOutbox> sendable = mailOutboxRepository.findSendable(MailStatus.PENDING, NOW,
+            PageRequest.of(0, 10));
+
+        assertThat(sendable).extracting(MailOutbox::getId)
+            .containsExactly(outboxes.get(0).getId());
+        assertThat(mailOutboxRepository.findById(outboxes.get(1).getId()))
+            .get().extracting(MailOutbox::getAttempts).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발송 완료, 포기한 메일은 내용을 삭제하고 다시 조회되지 않음")
+    void markSentAndFailed() {
+        Long sentId = outboxes.get(0).getId();
+        Long failedId = outboxes.get(1).getId();
+
+        assertThat(mailOutboxRepository.markSent(sentId, 0, NOW)).isOne();
+        assertThat(mailOutboxRepository.markFailed(failedId, 0, "smtp")).isOne();
+        entityManager.clear();
+
+        MailOutbox sent = mailOutboxRepository.findById(sentId).orElseThrow();
+        MailOutbox failed = mailOutboxRepository.findById(failedId).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(sent.getSentAt()).isEqualTo(NOW);
+        assertThat(sent.getContent()).isNull();
+        assertThat(failed.getStatus()).isEqualTo(MailStatus.FAILED);
+        assertThat(failed.getContent()).isNull();
+        assertThat(failed.getLastError()).isEqualTo("smtp");
+        assertThat(mailOutboxRepository.findSendable(MailStatus.PENDING, NOW,
+            PageRequest.of(0, 10))).isEmpty();
+        assertThat(mailOutboxRepository.findIdsSentBefore(MailStatus.SENT, NOW.plusDays(1),
+            PageRequest.of(0, 10))).containsExactly(sentId);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 다시 가져가 시도 횟수가 바뀐 메일은 이전 시도의 lease 연장, 결과 기록을 무시")
+    void fencing() {
+        Long id = outboxes.get(0).getId();
+        mailOutboxRepository.findById(id).orElseThrow().claim(NOW.plusMinutes(5)); // 첫 번째 시도
+        mailOutboxRepository.findById(id).orElseThrow().claim(NOW.plusMinutes(10)); // 다른 서버가 다시 가져감
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(mailOutboxRepository.renewLease(id, 1, NOW.plusMinutes(20))).isZero();
+        assertThat(mailOutboxRepository.markRetry(id, 1, NOW.plusMinutes(20), "smtp")).isZero();
+        assertThat(mailOutboxRepository.markSent(id, 1, NOW)).isZero();
+        assertThat(mailOutboxRepository.markFailed(id, 1, "smtp")).isZero();
+        entityManager.clear();
+
+        MailOutbox outbox = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(outbox.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(10));
+
+        assertThat(mailOutboxRepository.renewLease(id, 2, NOW.plusMinutes(20))).isOne();
+        assertThat(mailOutboxRepository.markSent(id, 2, NOW)).isOne();
+    }
+}
@@ -0,0 +1,46 @@
+package com.hwansol.moviego.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MailContentCipherTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final MailContentCipher mailContentCipher = new MailContentCipher(KEY);
+
+    @Test
+    @DisplayName("암호화한 내용은 평문을 포함하지 않고 복호화하면 원래 내용")
+    void encryptAndDecrypt() {
+        String encrypted = mailContentCipher.encrypt("tempPw123!");
+
+        assertThat(encrypted).doesNotContain("tempPw123!");
+        assertThat(mailContentCipher.encrypt("tempPw123!")).isNotEqualTo(encrypted); // 매번 다른 IV
+        assertThat(mailContentCipher.decrypt(encrypted)).isEqualTo("tempPw123!");
+        assertThat(mailContentCipher.decrypt(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 키로 복호화하거나 변조된 내용은 실패")
+    void decryptFail() {
+        String encrypted = mailContentCipher.encrypt("tempPw123!");
+        byte[] otherKey = new byte[32];
+        otherKey[0] = 1;
+        MailContentCipher other = new MailContentCipher(
+            Base64.getEncoder().encodeToString(otherKey));
+
+        assertThrows(IllegalStateException.class, () -> other.decrypt(encrypted));
+    }
+
+    @Test
+    @DisplayName("키가 없거나 AES 키 길이가 아닌 경우 서버 시작 실패")
+    void invalidKey() {
+        assertThrows(IllegalStateException.class, () -> new MailContentCipher(""));
+        assertThrows(IllegalStateException.class,
+            () -> new MailContentCipher(Base64.getEncoder().encodeToString(new byte[10])));
+    }
+}
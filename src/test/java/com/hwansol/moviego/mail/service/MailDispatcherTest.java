@@ -0,0 +1,118 @@
+package com.hwansol.moviego.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hwansol.moviego.mail.exception.MailException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mailDispatcher = new MailDispatcher(javaMailSender);
+        ReflectionTestUtils.setField(mailDispatcher, "queueCapacity", 1);
+        ReflectionTestUtils.setField(mailDispatcher, "workerCount", 1);
+        ReflectionTestUtils.setField(mailDispatcher, "virtualThreads", true);
+        ReflectionTestUtils.setField(mailDispatcher, "enqueueTimeoutMillis", 10L);
+        ReflectionTestUtils.setField(mailDispatcher, "shutdownTimeoutMillis", 1000L);
+        mailDispatcher.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣고 바로 반환, 발송 스레드에서 발송 후 결과 알림 (실패해도 다음 메일 발송)")
+    void dispatch() {
+        MimeMessage failed = message();
+        MimeMessage message = message();
+        MailDispatcher.Callback failedCallback = mock(MailDispatcher.Callback.class);
+        MailDispatcher.Callback callback = mock(MailDispatcher.Callback.class);
+        MailSendException exception = new MailSendException("smtp");
+        when(failedCallback.onSending()).thenReturn(true);
+        when(callback.onSending()).thenReturn(true);
+        doAnswer(invocation -> {
+            throw exception;
+        }).when(javaMailSender).send(failed);
+
+        mailDispatcher.dispatch(failed, failedCallback);
+        verify(failedCallback, timeout(1000)).onFailed(exception);
+        mailDispatcher.dispatch(message, callback);
+
+        verify(callback, timeout(1000)).onSent();
+        verify(failedCallback, never()).onSent();
+        verify(callback, never()).onFailed(any());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 경우 잠시 기다린 뒤 실패")
+    void dispatchFailWhenFull() throws InterruptedException {
+        MailDispatcher.Callback callback = mock(MailDispatcher.Callback.class);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(callback.onSending()).thenReturn(true);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS); // SMTP 서버가 느린 경우
+            return null;
+        }).when(javaMailSender).send(any(MimeMessage.class));
+
+        mailDispatcher.dispatch(message(), callback);
+        assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+        mailDispatcher.dispatch(message(), callback); // 발송 중인 메일은 대기열 자리를 차지하지 않음
+
+        assertThat(mailDispatcher.availableCapacity()).isZero();
+        assertThrows(MailException.class, () -> mailDispatcher.dispatch(message(), callback));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("발송 직전 확인에서 보내지 않기로 한 메일은 보내지 않고 결과도 알리지 않음")
+    void dispatchSkip() {
+        MimeMessage message = message();
+        MailDispatcher.Callback callback = mock(MailDispatcher.Callback.class);
+        when(callback.onSending()).thenReturn(false);
+
+        mailDispatcher.dispatch(message, callback);
+
+        verify(callback, timeout(1000)).onSending();
+        verify(javaMailSender, after(200).never()).send(message);
+        verify(callback, never()).onSent();
+        verify(callback, never()).onFailed(any());
+    }
+
+    private MimeMessage message() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+}
@@ -0,0 +1,214 @@
+package com.hwansol.moviego.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hwansol.moviego.mail.model.MailOutbox;
+import com.hwansol.moviego.mail.model.MailStatus;
+import com.hwansol.moviego.mail.repository.MailOutboxRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class MailRelayTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private MailService mailService;
+
+    @Mock
+    private MailDispatcher mailDispatcher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MailRelay mailRelay;
+
+    @BeforeEach
+    void setUp() {
+        mailRelay = new MailRelay(mailOutboxRepository, mailService, mailDispatcher,
+            transactionManager);
+        ReflectionTestUtils.setField(mailRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(mailRelay, "leaseMillis", 300000L);
+        ReflectionTestUtils.setField(mailRelay, "maxAttempts", 2);
+        ReflectionTestUtils.setField(mailRelay, "backoffMillis", 10000L);
+        ReflectionTestUtils.setField(mailRelay, "maxBackoffMillis", 3600000L);
+    }
+
+    @Test
+    @DisplayName("대기열 남은 자리만큼 가져와 lease 시각을 기록하고 발송, 발송 완료 기록")
+    void relay() {
+        MailOutbox outbox = outbox(1L);
+        MimeMessage message = message();
+        given(mailDispatcher.availableCapacity()).willReturn(10);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(mailOutboxRepository.findSendable(eq(MailStatus.PENDING), any(), any()))
+            .willReturn(List.of(outbox));
+        given(mailService.createMail(outbox)).willReturn(message);
+
+        int claimedCount = mailRelay.relay();
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        ArgumentCaptor<MailDispatcher.Callback> callback =
+            ArgumentCaptor.forClass(MailDispatcher.Callback.class);
+        verify(mailOutboxRepository).findSendable(eq(MailStatus.PENDING), any(),
+            pageable.capture());
+        verify(mailDispatcher).dispatch(eq(message), callback.capture());
+        assertThat(claimedCount).isEqualTo(1);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(10);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(4));
+
+        callback.getValue().onSent();
+        verify(mailOutboxRepository).markSent(eq(1L), eq(1), any()); // 가져갈 때의 시도 횟수로 확인
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 경우 가져오지 않음")
+    void relayWhenQueueFull() {
+        given(mailDispatcher.availableCapacity()).willReturn(0);
+
+        assertThat(mailRelay.relay()).isZero();
+        verify(mailOutboxRepository, never()).findSendable(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발송 실패 시 시도 횟수에 따라 늘어나는 간격 이후 다시 발송")
+    void relayRetry() {
+        MailOutbox outbox = outbox(1L);
+        givenClaimed(outbox);
+
+        mailRelay.relay();
+        LocalDateTime before = LocalDateTime.now();
+        captureCallback().onFailed(new MailSendException("smtp"));
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mailOutboxRepository).markRetry(eq(1L), eq(1), nextAttemptAt.capture(),
+            eq("smtp"));
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(10))
+            .isBefore(before.plusSeconds(20));
+        verify(mailOutboxRepository, never()).markFailed(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패한 경우 발송 포기")
+    void relayFail() {
+        MailOutbox outbox = outbox(1L);
+        outbox.claim(LocalDateTime.now()); // 이전에 한 번 실패한 메일
+        givenClaimed(outbox);
+
+        mailRelay.relay();
+        captureCallback().onFailed(new MailSendException("smtp"));
+
+        verify(mailOutboxRepository).markFailed(1L, 2, "smtp");
+        verify(mailOutboxRepository, never()).markRetry(anyLong(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발송 직전 lease를 연장하고, 다른 서버가 다시 가져간 메일은 보내지 않음")
+    void relaySkipReclaimed() {
+        MailOutbox outbox = outbox(1L);
+        givenClaimed(outbox);
+        given(mailOutboxRepository.renewLease(eq(1L), eq(1), any())).willReturn(1, 0);
+
+        mailRelay.relay();
+        MailDispatcher.Callback callback = captureCallback();
+        LocalDateTime before = LocalDateTime.now();
+
+        assertThat(callback.onSending()).isTrue();
+        assertThat(callback.onSending()).isFalse(); // lease가 지나 다른 서버가 시도 횟수를 올린 경우
+
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mailOutboxRepository, times(2)).renewLease(eq(1L), eq(1), leaseUntil.capture());
+        assertThat(leaseUntil.getAllValues().get(0)).isAfterOrEqualTo(before.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("메일을 만들 수 없는 행은 다시 시도하도록 기록하고 나머지 행은 발송")
+    void relayWhenCreateMailFails() {
+        MailOutbox broken = outbox(1L);
+        MailOutbox outbox = outbox(2L);
+        MimeMessage message = message();
+        given(mailDispatcher.availableCapacity()).willReturn(10);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(mailOutboxRepository.findSendable(eq(MailStatus.PENDING), any(), any()))
+            .willReturn(List.of(broken, outbox));
+        given(mailService.createMail(broken)).willThrow(new IllegalArgumentException("base64"));
+        given(mailService.createMail(outbox)).willReturn(message);
+
+        assertThat(mailRelay.relay()).isEqualTo(2);
+
+        verify(mailOutboxRepository).markRetry(eq(1L), eq(1), any(), eq("base64"));
+        verify(mailDispatcher).dispatch(eq(message), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작할 수 없는 경우에도 relay 스레드가 종료되지 않고 계속 확인")
+    void runWhenTransactionFails() throws Exception {
+        ReflectionTestUtils.setField(mailRelay, "pollMillis", 10L);
+        given(mailDispatcher.availableCapacity()).willReturn(10);
+        given(transactionManager.getTransaction(any()))
+            .willThrow(new CannotCreateTransactionException("down"));
+
+        mailRelay.start();
+        try {
+            verify(transactionManager, timeout(1000).atLeast(3)).getTransaction(any());
+        } finally {
+            mailRelay.stop();
+        }
+    }
+
+    private void givenClaimed(MailOutbox outbox) {
+        given(mailDispatcher.availableCapacity()).willReturn(10);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(mailOutboxRepository.findSendable(eq(MailStatus.PENDING), any(), any()))
+            .willReturn(List.of(outbox));
+        given(mailService.createMail(outbox)).willReturn(message());
+    }
+
+    private MailDispatcher.Callback captureCallback() {
+        ArgumentCaptor<MailDispatcher.Callback> callback =
+            ArgumentCaptor.forClass(MailDispatcher.Callback.class);
+        verify(mailDispatcher).dispatch(any(), callback.capture());
+
+        return callback.getValue();
+    }
+
+    private MailOutbox outbox(Long id) {
+        MailOutbox outbox = MailOutbox.pending("test@test.com", "test", MailType.ID,
+            LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "id", id);
+
+        return outbox;
+    }
+
+    private MimeMessage message() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+}
@@ -17,6 +17,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hwansol.moviego.auth.SecurityConfig;
 import com.hwansol.moviego.auth.TokenProvider;
 import com.hwansol.moviego.member.dto.MemberAuthDto.Request;
+import com.hwansol.moviego.member.dto.MemberCacheDto;
+import com.hwansol.moviego.member.dto.MemberFindIdDto;
 import com.hwansol.moviego.member.dto.MemberModifyEmailDto;
 import com.hwansol.moviego.member.dto.MemberModifyPwDto;
 import com.hwansol.moviego.member.dto.MemberSignInDto;
@@ -117,14 +119,8 @@ class MemberControllerTest {
     @Test
     @DisplayName("아이디 찾기 컨트롤러")
     void findIdController() throws Exception {
-        Member member = Member.builder()
-            .userId("test")
-            .userPw("pw")
-            .role(Role.ROLE_USER)
-            .userEmail("test@naver.com")
-            .build();
-
-        when(memberService.findId("test@naver.com")).thenReturn(member);
+        when(memberService.findId("test@naver.com")).thenReturn(
+            MemberFindIdDto.Response.from("test@naver.com"));
 
         mockMvc.perform(get("/api/members/member/id?userEmail=test@naver.com"))
             .andDo(print())
@@ -215,7 +211,7 @@ class MemberControllerTest {
             .build();
         PrincipalDetails principalDetails = new PrincipalDetails(member, null);
 
-        when(memberService.getMember("test")).thenReturn(member);
+        when(memberService.getMember("test")).thenReturn(MemberCacheDto.from(member));
 
         mockMvc.perform(get("/api/members/member")
                 .with(user(principalDetails)))
@@ -0,0 +1,108 @@
+package com.hwansol.moviego.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hwansol.moviego.config.JpaAuditingConfig;
+import com.hwansol.moviego.member.dto.MemberAdminDto;
+import com.hwansol.moviego.member.dto.MemberAdminDto.Condition;
+import com.hwansol.moviego.member.dto.MemberAdminDto.Deletion;
+import com.hwansol.moviego.member.dto.MemberAdminDto.Provider;
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.model.OAuthProvider;
+import com.hwansol.moviego.member.model.Role;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, MemberAdminQueryRepository.class})
+class MemberAdminQueryRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberAdminQueryRepository memberAdminQueryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        members = memberRepository.saveAll(List.of(member("test1", null),
+            member("test2", OAuthProvider.KAKAO), member("test3", null), member("test4", null)));
+        members.get(2).withdraw(LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("cursor 이후 회원을 id 순서로 조회")
+    void findPage() {
+        Condition condition = Condition.builder().build();
+
+        List<MemberAdminDto.Row> first = memberAdminQueryRepository.findPage(condition, null, 2);
+        List<MemberAdminDto.Row> second = memberAdminQueryRepository.findPage(condition,
+            first.get(1).getId(), 2);
+
+        assertThat(first).extracting(MemberAdminDto.Row::getUserId)
+            .containsExactly("test1", "test2");
+        assertThat(second).extracting(MemberAdminDto.Row::getUserId).containsExactly("test4");
+        assertThat(first.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("가입 방식, 탈퇴 여부 조건으로 조회 (탈퇴한 회원도 조회 가능)")
+    void findPageWithCondition() {
+        assertThat(memberAdminQueryRepository.findPage(Condition.builder()
+            .provider(Provider.KAKAO)
+            .build(), null, 10)).extracting(MemberAdminDto.Row::getOAuthProvider)
+            .containsExactly(OAuthProvider.KAKAO);
+        assertThat(memberAdminQueryRepository.findPage(Condition.builder()
+            .provider(Provider.LOCAL)
+            .deletion(Deletion.ALL)
+            .build(), null, 10)).extracting(MemberAdminDto.Row::getUserId)
+            .containsExactly("test1", "test3", "test4");
+
+        List<MemberAdminDto.Row> deleted = memberAdminQueryRepository.findPage(Condition.builder()
+            .deletion(Deletion.DELETED)
+            .build(), null, 10);
+        assertThat(deleted).extracting(MemberAdminDto.Row::getUserId).containsExactly("test3");
+        assertThat(deleted.get(0).getDelDate()).isNotNull();
+
+        assertThat(memberAdminQueryRepository.findPage(Condition.builder()
+            .createdFrom(LocalDateTime.now().plusDays(1))
+            .build(), null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 회원 전체를 id 순서로 한 행씩 조회")
+    void stream() {
+        List<Long> ids = new ArrayList<>();
+
+        memberAdminQueryRepository.stream(Condition.builder()
+            .deletion(Deletion.ALL)
+            .build(), row -> ids.add(row.getId()));
+
+        assertThat(ids).containsExactlyElementsOf(members.stream().map(Member::getId).toList());
+    }
+
+    private Member member(String userId, OAuthProvider provider) {
+        return Member.builder()
+            .userId(userId)
+            .userPw("pw")
+            .userEmail(userId + "@naver.com")
+            .role(Role.ROLE_USER)
+            .oAuthProvider(provider)
+            .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.hwansol.moviego.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hwansol.moviego.config.JpaAuditingConfig;
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.model.MemberArchive;
+import com.hwansol.moviego.member.model.Role;
+import com.hwansol.moviego.member.repository.MemberArchiveRepository.Target;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, MemberArchiveRepository.class})
+class MemberArchiveRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberArchiveRepository memberArchiveRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        members = memberRepository.saveAll(List.of(member("test1"), member("test2"),
+            member("test3"), member("test4")));
+        members.get(0).withdraw(NOW.minusDays(40));
+        members.get(1).withdraw(NOW.minusDays(50));
+        members.get(2).withdraw(NOW.minusDays(10));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("탈퇴 날짜가 기준 이전인 회원을 (탈퇴 날짜, id) 순서로 나눠서 조회")
+    void findTargets() {
+        LocalDateTime cutoff = NOW.minusDays(30);
+
+        List<Target> first = memberArchiveRepository.findTargets(cutoff, null, 1);
+        List<Target> second = memberArchiveRepository.findTargets(cutoff, first.get(0), 1);
+
+        assertThat(first).extracting(Target::id).containsExactly(members.get(1).getId());
+        assertThat(second).extracting(Target::id).containsExactly(members.get(0).getId());
+        assertThat(memberArchiveRepository.findTargets(cutoff, second.get(0), 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원만 보관 테이블로 복사 후 삭제")
+    void copyAndDelete() {
+        List<Long> ids = List.of(members.get(0).getId(), members.get(3).getId());
+
+        assertThat(memberArchiveRepository.copy(ids, NOW)).isEqualTo(1);
+        assertThat(memberArchiveRepository.delete(ids)).isEqualTo(1);
+
+        MemberArchive archive = entityManager.find(MemberArchive.class, members.get(0).getId());
+        assertThat(archive.getUserId()).isEqualTo("test1");
+        assertThat(archive.getArchivedAt()).isEqualTo(NOW);
+        assertThat(memberRepository.existsByUserId("test4")).isTrue();
+        assertThat(memberArchiveRepository.findOldestDelDate()).isEqualTo(NOW.minusDays(50));
+    }
+
+    private Member member(String userId) {
+        return Member.builder()
+            .userId(userId)
+            .userPw("pw")
+            .userEmail(userId + "@naver.com")
+            .role(Role.ROLE_USER)
+            .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.hwansol.moviego.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hwansol.moviego.config.JpaAuditingConfig;
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.model.OAuthProvider;
+import com.hwansol.moviego.member.model.Role;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+class MemberRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("회원 저장 시 시간 순서 id 생성")
+    void timeOrderedId() {
+        List<Member> members = memberRepository.saveAll(List.of(member("test1", "test1@naver.com"),
+            member("test2", "test2@naver.com")));
+        entityManager.flush();
+
+        assertThat(members.get(0).getId()).isNotNull();
+        assertThat(members.get(1).getId()).isGreaterThan(members.get(0).getId());
+        assertThat(members.get(0).getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴하지 않은 회원끼리는 아이디 중복 불가, 탈퇴한 회원의 아이디는 다시 사용 가능")
+    void uniqueActiveUserId() {
+        Member member = memberRepository.saveAndFlush(member("test", "test@naver.com"));
+
+        assertThrows(DataIntegrityViolationException.class,
+            () -> memberRepository.saveAndFlush(member("test", "other@naver.com")));
+        entityManager.clear();
+
+        member = memberRepository.findByUserId("test").orElseThrow();
+        member.withdraw(LocalDateTime.now());
+        entityManager.flush();
+
+        memberRepository.saveAndFlush(member("test", "test@naver.com"));
+        assertThat(memberRepository.existsByUserId("test")).isTrue();
+    }
+
+    @Test
+    @DisplayName("projection 조회")
+    void projections() {
+        Member member = memberRepository.saveAndFlush(member("test", "test@naver.com").toBuilder()
+            .oAuthProvider(OAuthProvider.KAKAO)
+            .build());
+        entityManager.clear();
+
+        assertThat(memberRepository.findProviderByUserEmail("test@naver.com")).get()
+            .extracting(MemberProviderProjection::getProvider).isEqualTo(OAuthProvider.KAKAO);
+        assertThat(memberRepository.findUserIdByUserEmail("test@naver.com")).get()
+            .extracting(MemberUserIdProjection::getUserId).isEqualTo("test");
+        assertThat(memberRepository.findCacheDtoByUserId("test")).get()
+            .satisfies(dto -> assertThat(dto.getId()).isEqualTo(member.getId()));
+        assertThat(memberRepository.findProviderByUserEmail("none@naver.com")).isEmpty();
+    }
+
+    private Member member(String userId, String userEmail) {
+        return Member.builder()
+            .userId(userId)
+            .userPw("pw")
+            .userEmail(userEmail)
+            .role(Role.ROLE_USER)
+            .build();
+    }
+}
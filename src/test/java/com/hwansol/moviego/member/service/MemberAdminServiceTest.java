@@ -0,0 +1,118 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hwansol.moviego.member.dto.MemberAdminDto;
+import com.hwansol.moviego.member.dto.MemberAdminDto.Condition;
+import com.hwansol.moviego.member.dto.MemberImportDto.Format;
+import com.hwansol.moviego.member.model.OAuthProvider;
+import com.hwansol.moviego.member.model.Role;
+import com.hwansol.moviego.member.repository.MemberAdminQueryRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MemberAdminServiceTest {
+
+    private static final Condition CONDITION = Condition.builder().build();
+
+    @Mock
+    private MemberAdminQueryRepository memberAdminQueryRepository;
+
+    private MemberAdminService memberAdminService;
+
+    @BeforeEach
+    void setUp() {
+        memberAdminService = new MemberAdminService(memberAdminQueryRepository,
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(memberAdminService, "maxPageSize", 2);
+    }
+
+    @Test
+    @DisplayName("회원 목록 - 한 개 더 조회해 다음 cursor 결정, 최대 조회 수 제한")
+    void getMembers() {
+        when(memberAdminQueryRepository.findPage(CONDITION, null, 3)).thenReturn(
+            List.of(row(1L, "test1"), row(2L, "test2"), row(3L, "test3")));
+        when(memberAdminQueryRepository.findPage(CONDITION, 2L, 3)).thenReturn(
+            List.of(row(3L, "test3")));
+
+        MemberAdminDto.Page first = memberAdminService.getMembers(CONDITION, null, 100);
+        MemberAdminDto.Page last = memberAdminService.getMembers(CONDITION, 2L, 100);
+
+        assertThat(first.getMembers()).hasSize(2);
+        assertThat(first.getNextCursor()).isEqualTo(2L);
+        assertThat(last.getMembers()).hasSize(1);
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 - CSV")
+    void exportCsv() throws Exception {
+        stream(row(1L, "test1"), MemberAdminDto.Row.builder()
+            .id(2L)
+            .userId("test2")
+            .userEmail("a,b@naver.com")
+            .role(Role.ROLE_USER)
+            .oAuthProvider(OAuthProvider.KAKAO)
+            .createdAt(LocalDateTime.of(2025, 1, 2, 3, 4, 5))
+            .build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        memberAdminService.exportMembers(CONDITION, Format.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+            id,userId,userEmail,role,oAuthProvider,createdAt,modifiedAt,delDate
+            1,test1,test1@naver.com,ROLE_USER,,,,
+            2,test2,"a,b@naver.com",ROLE_USER,KAKAO,2025-01-02 03:04:05,,
+            """);
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 - NDJSON (id는 문자열)")
+    void exportNdjson() throws Exception {
+        stream(row(1234567890123456789L, "test1"), row(2L, "test2"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        memberAdminService.exportMembers(CONDITION, Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":\"1234567890123456789\",\"userId\":\"test1\"");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stream(MemberAdminDto.Row... rows) {
+        doAnswer(invocation -> {
+            Consumer<MemberAdminDto.Row> consumer = invocation.getArgument(1);
+            for (MemberAdminDto.Row row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(memberAdminQueryRepository).stream(eq(CONDITION), any(Consumer.class));
+    }
+
+    private MemberAdminDto.Row row(Long id, String userId) {
+        return MemberAdminDto.Row.builder()
+            .id(id)
+            .userId(userId)
+            .userEmail(userId + "@naver.com")
+            .role(Role.ROLE_USER)
+            .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hwansol.moviego.member.repository.MemberArchiveRepository;
+import com.hwansol.moviego.member.repository.MemberArchiveRepository.Target;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class MemberArchiveServiceTest {
+
+    private static final LocalDateTime DEL_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private MemberArchiveRepository memberArchiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MemberArchiveService memberArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        memberArchiveService = new MemberArchiveService(memberArchiveRepository,
+            transactionManager, redisTemplate);
+        ReflectionTestUtils.setField(memberArchiveService, "retentionDays", 30);
+        ReflectionTestUtils.setField(memberArchiveService, "chunkSize", 2);
+        ReflectionTestUtils.setField(memberArchiveService, "throttleMillis", 0L);
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(transactionManager.getTransaction(any()))
+            .thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 탈퇴 회원을 chunk씩 옮기고 잠금 해제")
+    void archiveDeletedMembers() {
+        Target first = new Target(1L, DEL_DATE);
+        Target second = new Target(2L, DEL_DATE);
+        Target third = new Target(3L, DEL_DATE.plusDays(1));
+        when(valueOperations.setIfAbsent(eq("memberArchive:lock"), anyString(),
+            any(Duration.class))).thenReturn(true);
+        when(memberArchiveRepository.findTargets(any(), isNull(), eq(2)))
+            .thenReturn(List.of(first, second));
+        when(memberArchiveRepository.findTargets(any(), eq(second), eq(2)))
+            .thenReturn(List.of(third));
+        when(memberArchiveRepository.copy(eq(List.of(1L, 2L)), any())).thenReturn(2);
+        when(memberArchiveRepository.delete(List.of(1L, 2L))).thenReturn(2);
+        when(memberArchiveRepository.copy(eq(List.of(3L)), any())).thenReturn(1);
+        when(memberArchiveRepository.delete(List.of(3L))).thenReturn(1);
+        when(memberArchiveRepository.findOldestDelDate()).thenReturn(null);
+
+        memberArchiveService.archiveDeletedMembers();
+
+        assertThat(memberArchiveService.getStatus().getLastArchivedCount()).isEqualTo(3);
+        assertThat(memberArchiveService.getStatus().getLastFinishedAt()).isNotNull();
+        verify(redisTemplate).expire("memberArchive:lock", Duration.ofMinutes(10));
+        verify(valueOperations).get("memberArchive:lock");
+    }
+
+    @Test
+    @DisplayName("보관한 회원 수와 삭제한 회원 수가 다르면 chunk를 되돌리고 중단")
+    void rollbackOnMismatch() {
+        when(valueOperations.setIfAbsent(eq("memberArchive:lock"), anyString(),
+            any(Duration.class))).thenReturn(true);
+        when(memberArchiveRepository.findTargets(any(), isNull(), eq(2)))
+            .thenReturn(List.of(new Target(1L, DEL_DATE)));
+        when(memberArchiveRepository.copy(eq(List.of(1L)), any())).thenReturn(0);
+        when(memberArchiveRepository.delete(List.of(1L))).thenReturn(1);
+
+        memberArchiveService.archiveDeletedMembers();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 작업 중이면 작업하지 않음")
+    void skipWhenLocked() {
+        when(valueOperations.setIfAbsent(eq("memberArchive:lock"), anyString(),
+            any(Duration.class))).thenReturn(false);
+
+        memberArchiveService.archiveDeletedMembers();
+
+        verify(memberArchiveRepository, never()).findTargets(any(), any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지났는데 옮기지 못한 회원의 지연 시간 계산")
+    void lag() {
+        when(memberArchiveRepository.findOldestDelDate()).thenReturn(
+            LocalDateTime.now().minusDays(31));
+
+        assertThat(memberArchiveService.getStatus().getLagSeconds())
+            .isBetween(Duration.ofDays(1).toSeconds() - 60, Duration.ofDays(1).toSeconds());
+    }
+}
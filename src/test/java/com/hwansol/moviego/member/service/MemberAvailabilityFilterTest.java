@@ -0,0 +1,107 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hwansol.moviego.member.repository.MemberKeyProjection;
+import com.hwansol.moviego.member.repository.MemberRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MemberAvailabilityFilterTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private MemberAvailabilityFilter memberAvailabilityFilter;
+
+    @BeforeEach
+    void setUp() {
+        memberAvailabilityFilter = new MemberAvailabilityFilter(memberRepository, redisTemplate,
+            redisMessageListenerContainer);
+        ReflectionTestUtils.setField(memberAvailabilityFilter, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(memberAvailabilityFilter, "fpp", 0.01);
+        memberAvailabilityFilter.init();
+    }
+
+    @Test
+    @DisplayName("필터 생성 전에는 항상 DB 확인 필요")
+    void notReady() {
+        assertThat(memberAvailabilityFilter.mightContainUserId("test")).isTrue();
+        assertThat(memberAvailabilityFilter.mightContainEmail("test@naver.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터 생성 - 회원 테이블에 있는 값만 사용 중일 수 있다고 판단")
+    void rebuild() {
+        when(memberRepository.streamAllKeys()).thenReturn(
+            Stream.of(key("test", "test@naver.com"), key("test2", "test2@naver.com")));
+
+        memberAvailabilityFilter.rebuild();
+
+        assertThat(memberAvailabilityFilter.isReady()).isTrue();
+        assertThat(memberAvailabilityFilter.mightContainUserId("test")).isTrue();
+        assertThat(memberAvailabilityFilter.mightContainEmail("test2@naver.com")).isTrue();
+        assertThat(memberAvailabilityFilter.mightContainUserId("unknown")).isFalse();
+        assertThat(memberAvailabilityFilter.mightContainUserId("TEST")).isTrue(); // DB와 같이 대소문자 무시
+        assertThat(memberAvailabilityFilter.getUserIdFilter().getInsertCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("값 추가 - 회원가입한 값은 바로 반영하고 다른 서버에 알림")
+    void put() {
+        when(memberRepository.streamAllKeys()).thenReturn(Stream.empty());
+        memberAvailabilityFilter.rebuild();
+
+        memberAvailabilityFilter.put("test", "test@naver.com");
+
+        assertThat(memberAvailabilityFilter.mightContainUserId("test")).isTrue();
+        assertThat(memberAvailabilityFilter.mightContainEmail("test@naver.com")).isTrue();
+        verify(redisTemplate).convertAndSend("memberAvailability", "id:test");
+        verify(redisTemplate).convertAndSend("memberAvailability", "email:test@naver.com");
+    }
+
+    @Test
+    @DisplayName("값 추가 - 다른 서버에서 추가된 값 수신")
+    void onMessage() {
+        when(memberRepository.streamAllKeys()).thenReturn(Stream.empty());
+        memberAvailabilityFilter.rebuild();
+
+        memberAvailabilityFilter.onMessage(new DefaultMessage("memberAvailability".getBytes(),
+            "id:test".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(memberAvailabilityFilter.mightContainUserId("test")).isTrue();
+    }
+
+    private MemberKeyProjection key(String userId, String userEmail) {
+        return new MemberKeyProjection() {
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getUserEmail() {
+                return userEmail;
+            }
+        };
+    }
+}
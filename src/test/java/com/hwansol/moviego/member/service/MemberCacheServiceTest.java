@@ -0,0 +1,154 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hwansol.moviego.member.dto.MemberCacheDto;
+import com.hwansol.moviego.member.exception.MemberException;
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.model.OAuthProvider;
+import com.hwansol.moviego.member.model.Role;
+import com.hwansol.moviego.member.repository.MemberRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCacheServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private MemberRecentWrites memberRecentWrites;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    private MemberCacheService memberCacheService;
+
+    private final Member member = Member.builder()
+        .userId("test")
+        .userPw("pw")
+        .userEmail("test@naver.com")
+        .role(Role.ROLE_USER)
+        .oAuthProvider(OAuthProvider.KAKAO)
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        memberCacheService = new MemberCacheService(memberRepository, cacheManager, redisTemplate,
+            redisMessageListenerContainer, memberRecentWrites);
+        ReflectionTestUtils.setField(memberCacheService, "localCacheMillis", 60_000L);
+        ReflectionTestUtils.setField(memberCacheService, "localCacheMaxSize", 100);
+        memberCacheService.init();
+    }
+
+    @Test
+    @DisplayName("회원 조회 - 두 번째 조회부터는 DB 조회 없이 캐시 사용")
+    void getMemberFromCache() {
+        when(memberRepository.findCacheDtoByUserId("test")).thenReturn(
+            Optional.of(MemberCacheDto.from(member)));
+
+        memberCacheService.getMember("test");
+        MemberCacheDto result = memberCacheService.getMember("test");
+
+        assertThat(result.getUserEmail()).isEqualTo("test@naver.com");
+        verify(memberRepository, times(1)).findCacheDtoByUserId("test");
+    }
+
+    @Test
+    @DisplayName("회원 조회 - 다른 서버의 변경 알림으로 서버 내부 캐시가 삭제되면 redis 캐시 사용")
+    void getMemberFromRedisAfterLocalEvict() {
+        when(memberRepository.findCacheDtoByUserId("test")).thenReturn(
+            Optional.of(MemberCacheDto.from(member)));
+
+        memberCacheService.getMember("test");
+        memberCacheService.onMessage(
+            new DefaultMessage("memberCache".getBytes(), "test".getBytes(StandardCharsets.UTF_8)),
+            null);
+        memberCacheService.getMember("test");
+
+        verify(memberRepository, times(1)).findCacheDtoByUserId("test");
+    }
+
+    @Test
+    @DisplayName("회원 조회 - 서버 내부 캐시가 가득 찬 경우 전체를 비우지 않고 항목 하나만 제거")
+    void getMemberWhenLocalCacheFull() {
+        ReflectionTestUtils.setField(memberCacheService, "localCacheMaxSize", 2);
+        for (String userId : List.of("test1", "test2", "test3")) {
+            when(memberRepository.findCacheDtoByUserId(userId)).thenReturn(
+                Optional.of(MemberCacheDto.from(member)));
+        }
+
+        memberCacheService.getMember("test1");
+        memberCacheService.getMember("test2");
+        memberCacheService.getMember("test3");
+
+        assertThat(ReflectionTestUtils.getField(memberCacheService, "localCache"))
+            .asInstanceOf(InstanceOfAssertFactories.MAP)
+            .hasSize(2)
+            .containsKey("test3");
+    }
+
+    @Test
+    @DisplayName("회원 캐시 삭제 - 삭제 후에는 DB에서 다시 조회하고 다른 서버에 알림")
+    void evict() {
+        when(memberRepository.findCacheDtoByUserId("test")).thenReturn(
+            Optional.of(MemberCacheDto.from(member)));
+
+        memberCacheService.getMember("test");
+        memberCacheService.evict("test");
+        memberCacheService.getMember("test");
+
+        verify(memberRepository, times(2)).findCacheDtoByUserId("test");
+        verify(redisTemplate, times(1)).convertAndSend("memberCache", "test");
+    }
+
+    @Test
+    @DisplayName("회원 조회 실패 - 존재하지 않는 회원")
+    void getMemberFail() {
+        when(memberRepository.findCacheDtoByUserId("test")).thenReturn(Optional.empty());
+
+        assertThrows(MemberException.class, () -> memberCacheService.getMember("test"));
+    }
+
+    @Test
+    @DisplayName("회원 캐시 직렬화 - 비밀번호 제외, 소셜 로그인 구분 유지")
+    void serialize() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Jackson2JsonRedisSerializer<MemberCacheDto> serializer = new Jackson2JsonRedisSerializer<>(
+            objectMapper, MemberCacheDto.class);
+
+        byte[] bytes = serializer.serialize(MemberCacheDto.from(member));
+        MemberCacheDto result = serializer.deserialize(bytes);
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).doesNotContain("pw");
+        assertThat(result.getUserId()).isEqualTo("test");
+        assertThat(result.getOauthProvider()).isEqualTo(OAuthProvider.KAKAO);
+        assertThat(result.toMember().getRole()).isEqualTo(Role.ROLE_USER);
+    }
+}
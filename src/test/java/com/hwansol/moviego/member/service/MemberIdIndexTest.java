@@ -0,0 +1,92 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hwansol.moviego.member.repository.MemberRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIdIndexTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private MemberIdIndex memberIdIndex;
+
+    @BeforeEach
+    void setUp() {
+        memberIdIndex = new MemberIdIndex(memberRepository, redisTemplate,
+            redisMessageListenerContainer);
+        memberIdIndex.init();
+    }
+
+    @Test
+    @DisplayName("아이디 후보 - 사용 중인 숫자를 건너뛰고 이어지는 숫자부터 추천")
+    void suggest() {
+        when(memberRepository.streamAllUserIds()).thenReturn(
+            Stream.of("test", "Test1", "test2", "test4"));
+        memberIdIndex.rebuild();
+
+        List<String> suggestions = memberIdIndex.suggest("test", 5);
+
+        assertThat(suggestions).hasSize(5).startsWith("test3", "test5", "test6")
+            .allMatch(suggestion -> suggestion.matches("^test[0-9]+$"))
+            .noneMatch(memberIdIndex::contains);
+    }
+
+    @Test
+    @DisplayName("아이디 후보 - 끝에 숫자가 있는 아이디는 다음 숫자부터 추천")
+    void suggestFromTrailingNumber() {
+        when(memberRepository.streamAllUserIds()).thenReturn(Stream.of("movie7", "movie8"));
+        memberIdIndex.rebuild();
+
+        assertThat(memberIdIndex.suggest("movie7", 1)).containsExactly("movie9");
+    }
+
+    @Test
+    @DisplayName("아이디 추가, 제거 - 바로 반영하고 다른 서버에 알림")
+    void addAndRemove() {
+        memberIdIndex.add("test");
+        assertThat(memberIdIndex.contains("TEST")).isTrue();
+
+        memberIdIndex.remove("test");
+        assertThat(memberIdIndex.contains("test")).isFalse();
+
+        verify(redisTemplate).convertAndSend("memberIdIndex", "add:test");
+        verify(redisTemplate).convertAndSend("memberIdIndex", "remove:test");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 변경된 아이디 반영")
+    void onMessage() {
+        memberIdIndex.onMessage(message("add:test"), null);
+        assertThat(memberIdIndex.contains("test")).isTrue();
+
+        memberIdIndex.onMessage(message("remove:test"), null);
+        assertThat(memberIdIndex.contains("test")).isFalse();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("memberIdIndex".getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
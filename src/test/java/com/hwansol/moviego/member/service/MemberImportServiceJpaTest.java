@@ -0,0 +1,82 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.config.JpaAuditingConfig;
+import com.hwansol.moviego.member.dto.MemberImportDto;
+import com.hwansol.moviego.member.dto.MemberImportDto.Format;
+import com.hwansol.moviego.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 테스트 트랜잭션의 영속성 컨텍스트가 open-in-view처럼 가져오기 전체 동안 유지되는 경우 확인
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+class MemberImportServiceJpaTest {
+
+    private static final String PW = new BCryptPasswordEncoder(4).encode("test1234!");
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MemberIdIndex memberIdIndex = mock(MemberIdIndex.class);
+
+    private final List<Integer> managedCounts = new ArrayList<>();
+
+    private MemberImportService memberImportService;
+
+    @BeforeEach
+    void setUp() {
+        memberImportService = new MemberImportService(memberRepository, entityManager,
+            transactionManager, Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(), mock(MemberAvailabilityFilter.class), memberIdIndex,
+            mock(MemberNegativeCache.class));
+        ReflectionTestUtils.setField(memberImportService, "chunkSize", 2);
+
+        // chunk 저장 직후 영속성 컨텍스트에 남아 있는 엔티티 수 기록
+        doAnswer(invocation -> managedCounts.add(
+                entityManager.unwrap(Session.class).getStatistics().getEntityCount()))
+            .when(memberIdIndex).add(anyString());
+    }
+
+    @Test
+    @DisplayName("chunk 저장이 끝날 때마다 영속성 컨텍스트를 비워 저장한 회원이 쌓이지 않음")
+    void clearAfterChunk() throws Exception {
+        String csv = """
+            userId,userEmail,userPw
+            test1,test1@test.com,%1$s
+            test2,test2@test.com,%1$s
+            test3,test3@test.com,%1$s
+            """.formatted(PW);
+
+        MemberImportDto.Response response = memberImportService.importMembers(
+            new StringReader(csv), Format.CSV, 0);
+
+        assertThat(response.getImportedCount()).isEqualTo(3);
+        assertThat(managedCounts).hasSize(3).containsOnly(0);
+        assertThat(memberRepository.count()).isEqualTo(3);
+    }
+}
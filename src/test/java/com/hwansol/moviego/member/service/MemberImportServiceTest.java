@@ -0,0 +1,169 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwansol.moviego.member.dto.MemberImportDto;
+import com.hwansol.moviego.member.dto.MemberImportDto.Format;
+import com.hwansol.moviego.member.dto.MemberImportDto.RowError;
+import com.hwansol.moviego.member.exception.MemberException;
+import com.hwansol.moviego.member.model.Member;
+import com.hwansol.moviego.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class MemberImportServiceTest {
+
+    private static final String PW = new BCryptPasswordEncoder(4).encode("test1234!");
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MemberAvailabilityFilter memberAvailabilityFilter;
+
+    @Mock
+    private MemberIdIndex memberIdIndex;
+
+    @Mock
+    private MemberNegativeCache memberNegativeCache;
+
+    private final List<String> persistedIds = new ArrayList<>();
+
+    private MemberImportService memberImportService;
+
+    @BeforeEach
+    void setUp() {
+        memberImportService = new MemberImportService(memberRepository, entityManager,
+            transactionManager, Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(), memberAvailabilityFilter, memberIdIndex, memberNegativeCache);
+        ReflectionTestUtils.setField(memberImportService, "chunkSize", 2);
+
+        lenient().when(transactionManager.getTransaction(any()))
+            .thenReturn(new SimpleTransactionStatus());
+        lenient().doAnswer(invocation -> persistedIds.add(
+                invocation.<Member>getArgument(0).getUserId()))
+            .when(entityManager).persist(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 검증 실패, 중복된 줄은 제외하고 chunk 단위로 저장")
+    void importCsv() throws Exception {
+        when(memberRepository.findUserIdsIn(anyCollection())).thenReturn(List.of("Used"));
+        when(memberRepository.findUserEmailsIn(anyCollection())).thenReturn(List.of());
+
+        String csv = """
+            \uFEFFuserId,userEmail,userPw
+            test1,test1@test.com,%1$s
+            used,used@test.com,%1$s
+
+            "test2","test2@test.com","%1$s"
+            1wrong,wrong@test.com,plain
+            TEST2,other@test.com,%1$s
+            """.formatted(PW);
+
+        MemberImportDto.Response response = memberImportService.importMembers(
+            new StringReader(csv), Format.CSV, 0);
+
+        assertThat(response.isCompleted()).isTrue();
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getCheckpoint()).isEqualTo(7);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(3L, 6L, 7L);
+        assertThat(response.getErrors().get(1).getMessages()).hasSize(2);
+        assertThat(persistedIds).containsExactly("test1", "test2");
+        verify(transactionManager, times(2)).commit(any());
+        verify(memberIdIndex).add("test1");
+        verify(memberAvailabilityFilter).put("test2", "test2@test.com");
+        verify(memberNegativeCache).evict("test2", "test2@test.com");
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - checkpoint 이후 줄부터 저장")
+    void importNdjsonFromCheckpoint() throws Exception {
+        when(memberRepository.findUserIdsIn(anyCollection())).thenReturn(List.of());
+        when(memberRepository.findUserEmailsIn(anyCollection())).thenReturn(List.of());
+
+        String ndjson = """
+            {"userId":"test1","userEmail":"test1@test.com","userPw":"%1$s"}
+            {"userId":"test2","userEmail":"test2@test.com","userPw":"%1$s"}
+            {"userId":"test3","userEmail":"test3@test.com","userPw":"%1$s"}
+            {"userId":
+            """.formatted(PW);
+
+        MemberImportDto.Response response = memberImportService.importMembers(
+            new StringReader(ndjson), Format.NDJSON, 1);
+
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(4L);
+        assertThat(persistedIds).containsExactly("test2", "test3");
+        assertThat(memberImportService.getStatus().getCheckpoint()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("chunk 저장 중 중복 오류 발생 시 한 건씩 다시 저장")
+    void retryOneByOneOnConflict() throws Exception {
+        when(memberRepository.findUserIdsIn(anyCollection())).thenReturn(List.of());
+        when(memberRepository.findUserEmailsIn(anyCollection())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            if (invocation.<Member>getArgument(0).getUserId().equals("taken")) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return persistedIds.add(invocation.<Member>getArgument(0).getUserId());
+        }).when(entityManager).persist(any(Member.class));
+
+        String csv = """
+            userId,userEmail,userPw
+            test1,test1@test.com,%1$s
+            taken,taken@test.com,%1$s
+            """.formatted(PW);
+
+        MemberImportDto.Response response = memberImportService.importMembers(
+            new StringReader(csv), Format.CSV, 0);
+
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(3L);
+        verify(memberIdIndex).add("test1");
+        verify(memberIdIndex, never()).add("taken");
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 실패 - 헤더가 올바르지 않음")
+    void importCsvWithoutHeader() {
+        assertThatThrownBy(() -> memberImportService.importMembers(
+            new StringReader("test1,test1@test.com," + PW), Format.CSV, 0))
+            .isInstanceOf(MemberException.class);
+
+        verify(entityManager, never()).persist(any());
+    }
+}
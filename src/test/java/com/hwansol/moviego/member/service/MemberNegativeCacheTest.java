@@ -0,0 +1,120 @@
+package com.hwansol.moviego.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MemberNegativeCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private MemberNegativeCache memberNegativeCache;
+
+    @BeforeEach
+    void setUp() {
+        memberNegativeCache = new MemberNegativeCache(redisTemplate,
+            redisMessageListenerContainer);
+        ReflectionTestUtils.setField(memberNegativeCache, "negativeCacheMillis", 60_000L);
+        ReflectionTestUtils.setField(memberNegativeCache, "negativeCacheMaxSize", 2);
+    }
+
+    @Test
+    @DisplayName("조회 실패 캐시 - 저장한 아이디, 이메일만 조회 실패로 판단")
+    void putMissing() {
+        memberNegativeCache.putMissingUserId("ghost");
+        memberNegativeCache.putMissingEmail("ghost@naver.com");
+
+        assertThat(memberNegativeCache.isMissingUserId("ghost")).isTrue();
+        assertThat(memberNegativeCache.isMissingEmail("ghost@naver.com")).isTrue();
+        assertThat(memberNegativeCache.isMissingUserId("test")).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 실패 캐시 - 유지 시간이 지나면 삭제")
+    void expire() {
+        ReflectionTestUtils.setField(memberNegativeCache, "negativeCacheMillis", 0L);
+
+        memberNegativeCache.putMissingUserId("ghost");
+
+        assertThat(memberNegativeCache.isMissingUserId("ghost")).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 실패 캐시 - 가득 찬 경우 기존 항목 하나만 제거하고 새 항목 저장")
+    void full() {
+        memberNegativeCache.putMissingUserId("ghost1");
+        memberNegativeCache.putMissingUserId("ghost2");
+        memberNegativeCache.putMissingUserId("ghost3");
+
+        assertThat(ReflectionTestUtils.getField(memberNegativeCache, "missingUserIds"))
+            .asInstanceOf(InstanceOfAssertFactories.MAP)
+            .hasSize(2)
+            .containsKey("ghost3");
+    }
+
+    @Test
+    @DisplayName("조회 실패 캐시 - 최대 개수가 0 이하인 경우 저장하지 않음")
+    void disabled() {
+        ReflectionTestUtils.setField(memberNegativeCache, "negativeCacheMaxSize", 0);
+
+        memberNegativeCache.putMissingUserId("ghost");
+
+        assertThat(memberNegativeCache.isMissingUserId("ghost")).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 실패 캐시 삭제 - 회원 생성 시 바로 삭제하고 다른 서버에 알림")
+    void evict() {
+        memberNegativeCache.putMissingUserId("test");
+        memberNegativeCache.putMissingEmail("test@naver.com");
+
+        memberNegativeCache.evict("test", "test@naver.com");
+
+        assertThat(memberNegativeCache.isMissingUserId("test")).isFalse();
+        assertThat(memberNegativeCache.isMissingEmail("test@naver.com")).isFalse();
+        verify(redisTemplate).convertAndSend("memberNegativeCache", "id:test");
+        verify(redisTemplate).convertAndSend("memberNegativeCache", "email:test@naver.com");
+    }
+
+    @Test
+    @DisplayName("조회 실패 캐시 삭제 - 대소문자가 달라도 같은 아이디, 이메일로 삭제")
+    void evictIgnoreCase() {
+        memberNegativeCache.putMissingUserId("foo");
+        memberNegativeCache.putMissingEmail("Foo@Naver.com");
+
+        assertThat(memberNegativeCache.isMissingUserId("FOO")).isTrue();
+        memberNegativeCache.evict("Foo", "foo@naver.com");
+
+        assertThat(memberNegativeCache.isMissingUserId("foo")).isFalse();
+        assertThat(memberNegativeCache.isMissingEmail("Foo@Naver.com")).isFalse();
+        verify(redisTemplate).convertAndSend("memberNegativeCache", "id:foo");
+    }
+
+    @Test
+    @DisplayName("조회 실패 캐시 삭제 - 다른 서버에서 생성된 회원 수신")
+    void onMessage() {
+        memberNegativeCache.putMissingUserId("test");
+
+        memberNegativeCache.onMessage(new DefaultMessage("memberNegativeCache".getBytes(),
+            "id:test".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(memberNegativeCache.isMissingUserId("test")).isFalse();
+    }
+}
@@ -1,34 +1,42 @@
 package com.hwansol.moviego.member.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hwansol.moviego.auth.TokenProvider;
+import com.hwansol.moviego.config.DataSourceRouting;
 import com.hwansol.moviego.mail.service.MailService;
 import com.hwansol.moviego.mail.service.MailType;
 import com.hwansol.moviego.member.dto.MemberAuthDto;
+import com.hwansol.moviego.member.dto.MemberAvailabilityDto;
+import com.hwansol.moviego.member.dto.MemberCacheDto;
+import com.hwansol.moviego.member.dto.MemberFindIdDto;
 import com.hwansol.moviego.member.dto.MemberModifyEmailDto;
 import com.hwansol.moviego.member.dto.MemberModifyPwDto;
 import com.hwansol.moviego.member.dto.MemberSignInDto;
 import com.hwansol.moviego.member.dto.MemberSignupDto;
 import com.hwansol.moviego.member.dto.MemberSignupDto.Request;
+import com.hwansol.moviego.member.exception.DuplicatedIdException;
 import com.hwansol.moviego.member.exception.MemberErrorCode;
 import com.hwansol.moviego.member.exception.MemberException;
 import com.hwansol.moviego.member.model.Member;
 import com.hwansol.moviego.member.model.OAuthProvider;
 import com.hwansol.moviego.member.model.Role;
 import com.hwansol.moviego.member.repository.MemberRepository;
+import com.hwansol.moviego.member.repository.MemberUserIdProjection;
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +48,7 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -62,6 +71,21 @@ class MemberServiceTest {
     @Mock
     private TokenProvider tokenProvider;
 
+    @Mock
+    private MemberCacheService memberCacheService;
+
+    @Mock
+    private MemberNegativeCache memberNegativeCache;
+
+    @Mock
+    private MemberAvailabilityFilter memberAvailabilityFilter;
+
+    @Mock
+    private MemberIdIndex memberIdIndex;
+
+    @Mock
+    private MemberRecentWrites memberRecentWrites;
+
     @Mock
     private MockHttpServletResponse mockHttpServletResponse;
 
@@ -76,20 +100,35 @@ class MemberServiceTest {
     void duplicatedId() {
         String userId = "test";
 
+        when(memberAvailabilityFilter.mightContainUserId(userId)).thenReturn(true);
         when(memberRepository.existsByUserId(userId)).thenReturn(false);
 
         assertDoesNotThrow(() -> memberService.duplicatedId(userId));
     }
 
+    @Test
+    @DisplayName("아이디 중복 확인 - 필터에 없는 아이디는 DB 조회 없이 사용 가능")
+    void duplicatedIdByFilter() {
+        assertDoesNotThrow(() -> memberService.duplicatedId("test"));
+        verify(memberRepository, never()).existsByUserId("test");
+    }
+
     @Test
     @DisplayName("아이디 중복 확인 실패 - 중복된 아이디")
     void duplicatedIdFail1() {
         String userId = "test";
 
+        when(memberAvailabilityFilter.mightContainUserId(userId)).thenReturn(true);
         when(memberRepository.existsByUserId(userId)).thenReturn(true);
+        when(memberIdIndex.suggest(userId, 5)).thenReturn(List.of("test1", "test2", "test3"));
+        when(memberRepository.findUserIdsIn(List.of("test1", "test2", "test3"))).thenReturn(
+            List.of("TEST2")); // 다른 서버에서 방금 가입한 아이디
+
+        DuplicatedIdException exception = assertThrows(DuplicatedIdException.class,
+            () -> memberService.duplicatedId(userId));
 
-        assertThrows(MemberException.class, () -> memberService.duplicatedId(userId),
-            MemberErrorCode.DUPLICATED_ID.getMessage());
+        assertThat(exception.getMessage()).isEqualTo(MemberErrorCode.DUPLICATED_ID.getMessage());
+        assertThat(exception.getSuggestions()).containsExactly("test1", "test3");
     }
 
     @Test
@@ -97,17 +136,27 @@ class MemberServiceTest {
     void duplicatedEmail() {
         String userEmail = "test@naver.com";
 
-        when(memberRepository.existsByUserEmail(userEmail)).thenReturn(false);
+        when(memberAvailabilityFilter.mightContainEmail(userEmail)).thenReturn(true);
+        when(memberRepository.findProviderByUserEmail(userEmail)).thenReturn(Optional.empty());
 
         assertDoesNotThrow(() -> memberService.duplicatedEmail(userEmail));
     }
 
+    @Test
+    @DisplayName("이메일 중복 확인 - 필터에 없는 이메일은 DB 조회 없이 사용 가능")
+    void duplicatedEmailByFilter() {
+        assertDoesNotThrow(() -> memberService.duplicatedEmail("test@naver.com"));
+        verify(memberRepository, never()).findProviderByUserEmail("test@naver.com");
+    }
+
     @Test
     @DisplayName("이메일 중복 확인 실패 - 이메일 중복")
     void duplicatedEmailFail1() {
         String userEmail = "test@naver.com";
 
-        when(memberRepository.existsByUserEmail(userEmail)).thenReturn(true);
+        when(memberAvailabilityFilter.mightContainEmail(userEmail)).thenReturn(true);
+        when(memberRepository.findProviderByUserEmail(userEmail)).thenReturn(
+            Optional.of(() -> null));
 
         assertThrows(MemberException.class, () -> memberService.duplicatedEmail(userEmail),
             MemberErrorCode.DUPLICATED_EMAIL.getMessage());
@@ -121,52 +170,78 @@ class MemberServiceTest {
             .oAuthProvider(OAuthProvider.KAKAO)
             .build();
 
-        when(memberRepository.existsByUserEmail(member.getUserEmail())).thenReturn(true);
-        when(memberRepository.findByUserEmail(member.getUserEmail())).thenReturn(
-            Optional.of(member));
+        when(memberAvailabilityFilter.mightContainEmail(member.getUserEmail())).thenReturn(true);
+        when(memberRepository.findProviderByUserEmail(member.getUserEmail())).thenReturn(
+            Optional.of(member::getOAuthProvider));
 
         assertThrows(MemberException.class,
             () -> memberService.duplicatedEmail(member.getUserEmail()),
             MemberErrorCode.SOCIAL_USER.getMessage());
+        verify(memberRepository, never()).findByUserEmail(member.getUserEmail());
     }
 
     @Test
-    @DisplayName("아이디 찾기")
-    void findId() {
-        Member member = Member.builder()
-            .userEmail("test@naver.com")
-            .userId("test")
+    @DisplayName("아이디, 이메일 사용 가능 여부 일괄 확인")
+    void checkAvailability() {
+        MemberAvailabilityDto.Request request = MemberAvailabilityDto.Request.builder()
+            .userIds(List.of("test", "test2", "new", "test"))
+            .userEmails(List.of("Test@naver.com"))
             .build();
 
-        when(memberRepository.findByUserEmail("test@naver.com")).thenReturn(
-            Optional.of(member));
+        when(memberAvailabilityFilter.mightContainUserId("test")).thenReturn(true);
+        when(memberAvailabilityFilter.mightContainUserId("test2")).thenReturn(true);
+        when(memberAvailabilityFilter.mightContainEmail("Test@naver.com")).thenReturn(true);
+        when(memberRepository.findUserIdsIn(Set.of("test", "test2"))).thenReturn(List.of("test"));
+        when(memberRepository.findUserEmailsIn(Set.of("Test@naver.com"))).thenReturn(
+            List.of("test@naver.com"));
 
-        Member result = memberService.findId("test@naver.com");
+        MemberAvailabilityDto.Response response = memberService.checkAvailability(request);
 
-        assertThat(result.getUserId()).isEqualTo("test");
+        assertThat(response.getUserIds()).containsExactly(entry("test", false),
+            entry("test2", true), entry("new", true));
+        assertThat(response.getUserEmails()).containsExactly(entry("Test@naver.com", false));
+    }
+
+    @Test
+    @DisplayName("아이디 찾기")
+    void findId() {
+        when(memberRepository.findUserIdByUserEmail("test@naver.com")).thenReturn(
+            Optional.of(userIdProjection("test", null)));
+
+        MemberFindIdDto.Response result = memberService.findId("test@naver.com");
+
+        assertThat(result.getUserEmail()).isEqualTo("test@naver.com");
+        verify(mailService).sendEmail("test@naver.com", "test", MailType.ID);
     }
 
     @Test
     @DisplayName("아이디 찾기 실패 - 없는 회원")
     void findIdFail1() {
-        when(memberRepository.findByUserEmail("test@naver.com")).thenReturn(Optional.empty());
+        when(memberRepository.findUserIdByUserEmail("test@naver.com")).thenReturn(
+            Optional.empty());
 
         assertThrows(MemberException.class, () -> memberService.findId("test@naver.com"),
             MemberErrorCode.NOT_FOUND_MEMBER.getMessage());
+        verify(memberNegativeCache, times(1)).putMissingEmail("test@naver.com");
+    }
+
+    @Test
+    @DisplayName("아이디 찾기 실패 - 최근에 조회에 실패한 이메일은 DB 조회 없이 실패")
+    void findIdFailByNegativeCache() {
+        when(memberNegativeCache.isMissingEmail("test@naver.com")).thenReturn(true);
+
+        assertThrows(MemberException.class, () -> memberService.findId("test@naver.com"),
+            MemberErrorCode.NOT_FOUND_MEMBER.getMessage());
+        verify(memberRepository, never()).findUserIdByUserEmail("test@naver.com");
     }
 
     @Test
     @DisplayName("아이디 찾기 실패 - 카카오 회원인 경우")
     void findIdFail2() {
-        Member member = Member.builder()
-            .userEmail("test@naver.com")
-            .oAuthProvider(OAuthProvider.KAKAO)
-            .build();
-
-        when(memberRepository.findByUserEmail(member.getUserEmail())).thenReturn(
-            Optional.of(member));
+        when(memberRepository.findUserIdByUserEmail("test@naver.com")).thenReturn(
+            Optional.of(userIdProjection("kakao_1", OAuthProvider.KAKAO)));
 
-        assertThrows(MemberException.class, () -> memberService.findId(member.getUserEmail()),
+        assertThrows(MemberException.class, () -> memberService.findId("test@naver.com"),
             MemberErrorCode.SOCIAL_USER.getMessage());
     }
 
@@ -183,7 +258,9 @@ class MemberServiceTest {
 
         memberService.findPw("test", "test@naver.com");
 
-        verify(memberRepository, times(1)).save(argThat(m -> m.getUserPw().equals("Pds83iL2")));
+        assertThat(member.getUserPw()).isEqualTo("Pds83iL2");
+        verify(memberRepository, never()).save(member); // 변경 감지로 비밀번호 컬럼만 update
+        verify(tokenProvider, times(1)).revokeAllTokens("test"); // 기존에 발급된 토큰 무효화
         verify(mailService, times(1)).sendEmail(argThat(m -> m.equals("test@naver.com")),
             argThat(s -> s.length() == 8),
             argThat(e -> e.name().equals("PW")));
@@ -217,13 +294,13 @@ class MemberServiceTest {
     @Test
     @DisplayName("회원 조회")
     void getMember() {
-        Member member = Member.builder()
+        MemberCacheDto member = MemberCacheDto.builder()
             .userId("test")
             .build();
 
-        when(memberRepository.findByUserId("test")).thenReturn(Optional.of(member));
+        when(memberCacheService.getMember("test")).thenReturn(member);
 
-        Member result = memberService.getMember("test");
+        MemberCacheDto result = memberService.getMember("test");
 
         assertThat(result.getUserId()).isEqualTo("test");
     }
@@ -231,7 +308,8 @@ class MemberServiceTest {
     @Test
     @DisplayName("회원 조회 실패 - 존재하지 않는 회원")
     void getMemberFail1() {
-        when(memberRepository.findByUserId("test")).thenReturn(Optional.empty());
+        when(memberCacheService.getMember("test")).thenThrow(
+            new MemberException(MemberErrorCode.NOT_FOUND_MEMBER));
 
         assertThrows(MemberException.class, () -> memberService.getMember("test"),
             MemberErrorCode.NOT_FOUND_MEMBER.getMessage());
@@ -330,6 +408,8 @@ class MemberServiceTest {
         assertThat(result.getRole()).isEqualTo(Role.ROLE_USER);
         assertThat(result.getUserPw()).isEqualTo("pw");
         assertThat(result.getUserEmail()).isEqualTo("test@naver.com");
+        verify(memberNegativeCache, times(1)).evict("test", "test@naver.com");
+        verify(memberAvailabilityFilter, times(1)).put("test", "test@naver.com");
     }
 
     @Test
@@ -396,6 +476,7 @@ class MemberServiceTest {
         assertThrows(MemberException.class,
             () -> memberService.signIn(request, mockHttpServletResponse),
             MemberErrorCode.NOT_FOUND_MEMBER.getMessage());
+        verify(memberNegativeCache, times(1)).putMissingUserId("test");
     }
 
     @Test
@@ -417,6 +498,46 @@ class MemberServiceTest {
             MemberErrorCode.WRONG_PASSWORD.getMessage());
     }
 
+    @Test
+    @DisplayName("일반 로그인 서비스 - 가입 직후에는 복제 DB가 늦어도 주 DB에서 조회")
+    void signInAfterSignup() {
+        MemberSignupDto.Request signupRequest = MemberSignupDto.Request.builder()
+            .userId("test")
+            .userPw("pw")
+            .userEmail("test@naver.com")
+            .confirmPw("pw")
+            .build();
+        MemberSignInDto.Request signInRequest = MemberSignInDto.Request.builder()
+            .userId("test")
+            .userPw("pw")
+            .build();
+        Member member = Member.builder()
+            .userEmail("test@naver.com")
+            .userPw("pw")
+            .role(Role.ROLE_USER)
+            .userId("test")
+            .build();
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("isAuth:test@naver.com")).thenReturn("true");
+        when(passwordEncoder.encode("pw")).thenReturn("pw");
+        when(memberRepository.save(argThat(m -> m.getUserId().equals("test")))).thenReturn(member);
+        when(memberRecentWrites.isRecentUserId("test")).thenReturn(true);
+        // 복제 DB에는 아직 가입한 회원이 없음
+        when(memberRepository.findByUserId("test")).thenAnswer(invocation ->
+            Boolean.TRUE.equals(ReflectionTestUtils.invokeMethod(DataSourceRouting.class,
+                "isPrimaryForced")) ? Optional.of(member) : Optional.empty());
+        when(passwordEncoder.matches("pw", "pw")).thenReturn(true);
+        when(tokenProvider.generateAccessToken("test", List.of("USER"))).thenReturn("token");
+
+        memberService.signup(signupRequest);
+        String token = memberService.signIn(signInRequest, mockHttpServletResponse);
+
+        assertThat(token).isEqualTo("token");
+        verify(memberRecentWrites, times(1)).mark("test", "test@naver.com");
+        verify(memberNegativeCache, never()).putMissingUserId("test");
+    }
+
     @Test
     @DisplayName("회원 로그아웃 서비스")
     void signOut() {
@@ -425,6 +546,15 @@ class MemberServiceTest {
         verify(tokenProvider, times(1)).logout(mockHttpServletRequest, mockHttpServletResponse);
     }
 
+    @Test
+    @DisplayName("모든 기기 로그아웃 서비스")
+    void signOutAll() {
+        memberService.signOutAll("test", mockHttpServletRequest, mockHttpServletResponse);
+
+        verify(tokenProvider, times(1)).logoutAll("test", mockHttpServletRequest,
+            mockHttpServletResponse);
+    }
+
     @Test
     @DisplayName("회원 이메일 변경 서비스")
     void modifyEmail() {
@@ -443,12 +573,10 @@ class MemberServiceTest {
         when(memberRepository.existsByUserEmail("test@gmail.com")).thenReturn(false);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("isAuth:test@gmail.com")).thenReturn("true");
-        when(memberRepository.save(
-            argThat(m -> m.getUserEmail().equals("test@gmail.com")))).thenReturn(
-            member.toBuilder().userEmail("test@gmail.com").build());
 
         Member result = memberService.modifyEmail(request);
 
+        assertThat(result).isSameAs(member);
         assertThat(result.getUserEmail()).isEqualTo("test@gmail.com");
 
         verify(redisTemplate, times(1)).delete("isAuth:test@gmail.com");
@@ -559,12 +687,12 @@ class MemberServiceTest {
         when(memberRepository.findByUserId("test")).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(request.getOriginPw(), member.getUserPw())).thenReturn(true);
         when(passwordEncoder.encode(request.getNewPw())).thenReturn("pa");
-        when(memberRepository.save(argThat(m -> m.getUserPw().equals("pa")))).thenReturn(
-            member.toBuilder().userPw("pa").build());
 
         Member result = memberService.modifyPw("test", request);
 
         assertThat(result.getUserPw()).isEqualTo("pa");
+        verify(memberCacheService, times(1)).evict("test");
+        verify(tokenProvider, times(1)).revokeAllTokens("test");
     }
 
     @Test
@@ -642,9 +770,6 @@ class MemberServiceTest {
             .build();
 
         when(memberRepository.findByUserId("test")).thenReturn(Optional.of(member));
-        when(memberRepository.save(argThat(m -> m.getDelDate() != null))).thenReturn(
-            member.toBuilder().delDate(
-                LocalDateTime.now()).build());
 
         Member result = memberService.deleteMember("test", mockHttpServletRequest,
             mockHttpServletResponse);
@@ -663,4 +788,18 @@ class MemberServiceTest {
             () -> memberService.deleteMember("test", mockHttpServletRequest,
                 mockHttpServletResponse), MemberErrorCode.NOT_FOUND_MEMBER.getMessage());
     }
-}
\ No newline at end of file
+
+    private MemberUserIdProjection userIdProjection(String userId, OAuthProvider provider) {
+        return new MemberUserIdProjection() {
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public OAuthProvider getProvider() {
+                return provider;
+            }
+        };
+    }
+}